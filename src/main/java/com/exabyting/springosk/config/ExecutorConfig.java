@@ -0,0 +1,40 @@
+package com.exabyting.springosk.config;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.properties.ExecutorMode;
+import com.exabyting.springosk.properties.OskProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the executor running background storage work.
+ * This configuration is active for every storage type.
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfig {
+
+    /**
+     * Creates the shared executor used for parallel transfers and background blocking calls.
+     * Virtual threads are used when configured and supported by the runtime; otherwise a bounded
+     * platform thread pool is used.
+     *
+     * @param oskProperties the OSK properties containing executor configuration
+     * @return configured executor instance
+     */
+    @Bean(destroyMethod = "close")
+    public ObjectStorageExecutor objectStorageExecutor(OskProperties oskProperties) {
+        if (oskProperties.getExecutorMode() == ExecutorMode.virtual) {
+            var virtualExecutor = ObjectStorageExecutor.virtual();
+            if (virtualExecutor.isPresent()) {
+                log.info("Initializing ObjectStorageExecutor with virtual threads");
+                return virtualExecutor.get();
+            }
+            log.warn("Virtual threads require Java 21 or later (running on Java {}), falling back to platform threads",
+                    Runtime.version().feature());
+        }
+        log.info("Initializing ObjectStorageExecutor with up to {} threads", oskProperties.getExecutorMaxThreads());
+        return ObjectStorageExecutor.platform(oskProperties.getExecutorMaxThreads());
+    }
+}
@@ -50,6 +50,40 @@ public class MinioConfig {
         return client;
     }
 
+    /**
+     * Creates and configures a non-blocking MinIO client bean.
+     * Requests are dispatched asynchronously by OkHttp and completed through {@link java.util.concurrent.CompletableFuture}s.
+     *
+     * @param oskProperties the OSK properties containing MinIO configuration
+     * @return configured asynchronous MinIO client instance
+     */
+    @Bean
+    public io.minio.MinioAsyncClient minioAsyncClient(OskProperties oskProperties) {
+        log.info("Initializing MinioAsyncClient with endpoint: {}", oskProperties.getEndpoint());
+
+        // OkHttp's default dispatcher allows only 5 concurrent calls per host
+        okhttp3.Dispatcher dispatcher = new okhttp3.Dispatcher();
+        if (oskProperties.getAsyncMaxConcurrency() != null) {
+            dispatcher.setMaxRequests(oskProperties.getAsyncMaxConcurrency());
+            dispatcher.setMaxRequestsPerHost(oskProperties.getAsyncMaxConcurrency());
+        }
+
+        io.minio.MinioAsyncClient.Builder builder = io.minio.MinioAsyncClient.builder()
+                .endpoint(oskProperties.getEndpoint())
+                .httpClient(buildHttpClient(oskProperties).newBuilder().dispatcher(dispatcher).build());
+
+        if (oskProperties.getRegion() != null && !oskProperties.getRegion().isEmpty()) {
+            builder.region(oskProperties.getRegion());
+        }
+
+        if (oskProperties.getAccessKey() != null && !oskProperties.getAccessKey().isEmpty() &&
+            oskProperties.getSecretKey() != null && !oskProperties.getSecretKey().isEmpty()) {
+            builder.credentials(oskProperties.getAccessKey(), oskProperties.getSecretKey());
+        }
+
+        return builder.build();
+    }
+
     /**
      * Builds a production-ready HTTP client with timeout and connection settings.
      * 
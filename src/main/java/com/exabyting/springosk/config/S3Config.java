@@ -1,8 +1,10 @@
 package com.exabyting.springosk.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -10,10 +12,18 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.crt.S3CrtHttpConfiguration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.properties.ClientImplementation;
 import com.exabyting.springosk.properties.OskProperties;
 
 import java.net.URI;
@@ -24,6 +34,8 @@ import java.time.Duration;
 @Slf4j
 public class S3Config {
 
+    private static final String AWS_CRT_CLASS = "software.amazon.awssdk.crt.s3.S3Client";
+
     @Bean
     public S3Client s3Client(OskProperties oskProperties) {
         var builder = S3Client.builder()
@@ -42,6 +54,81 @@ public class S3Config {
         return builder.build();
     }
 
+    @Bean
+    public S3AsyncClient s3AsyncClient(OskProperties oskProperties) {
+        if (oskProperties.getClientImplementation() == ClientImplementation.crt) {
+            return buildCrtAsyncClient(oskProperties);
+        }
+        log.info("Initializing S3AsyncClient with max concurrency: {}", oskProperties.getAsyncMaxConcurrency());
+        var builder = S3AsyncClient.builder()
+                .region(Region.of(oskProperties.getRegion()))
+                .serviceConfiguration(buildS3Configuration(oskProperties))
+                .httpClient(buildAsyncHttpClient(oskProperties))
+                .overrideConfiguration(buildOverrideConfiguration(oskProperties))
+                .multipartEnabled(true)
+                .multipartConfiguration(buildMultipartConfiguration(oskProperties));
+
+        if (oskProperties.getEndpoint() != null && !oskProperties.getEndpoint().isEmpty()) {
+            builder.endpointOverride(URI.create(oskProperties.getEndpoint()));
+        }
+        var credentialsProvider = buildCredentialsProvider(oskProperties);
+        if (credentialsProvider != null) {
+            builder.credentialsProvider(credentialsProvider);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the transfer manager used for directory and large-file transfers.
+     * With {@code client-implementation: crt} transfers use the CRT client's native multipart support;
+     * with the standard client they use the SDK's multipart support configured on the async client.
+     */
+    @Bean(destroyMethod = "close")
+    public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+        return S3TransferManager.builder()
+                .s3Client(s3AsyncClient)
+                .build();
+    }
+
+    /**
+     * Splits uploads at or above the multipart threshold into parts of the configured part size.
+     */
+    private MultipartConfiguration buildMultipartConfiguration(OskProperties oskProperties) {
+        return MultipartConfiguration.builder()
+                .thresholdInBytes(oskProperties.getMultipartThresholdBytes())
+                .minimumPartSizeInBytes(oskProperties.getMultipartPartSizeBytes().longValue())
+                .build();
+    }
+
+    private S3AsyncClient buildCrtAsyncClient(OskProperties oskProperties) {
+        if (!ClassUtils.isPresent(AWS_CRT_CLASS, S3Config.class.getClassLoader())) {
+            throw new IllegalStateException("client-implementation 'crt' requires the software.amazon.awssdk.crt:aws-crt dependency on the classpath");
+        }
+        log.info("Initializing CRT-based S3AsyncClient with target throughput: {} Gbps", oskProperties.getCrtTargetThroughputGbps());
+        var builder = S3AsyncClient.crtBuilder()
+                .region(Region.of(oskProperties.getRegion()))
+                .targetThroughputInGbps(oskProperties.getCrtTargetThroughputGbps())
+                .minimumPartSizeInBytes(oskProperties.getCrtMinimumPartSizeBytes())
+                .thresholdInBytes(oskProperties.getMultipartThresholdBytes())
+                .maxConcurrency(oskProperties.getAsyncMaxConcurrency())
+                .forcePathStyle(Boolean.TRUE.equals(oskProperties.getPathStyleAccess()))
+                .accelerate(Boolean.TRUE.equals(oskProperties.getAccelerateModeEnabled()));
+
+        if (oskProperties.getConnectionTimeoutMillis() != null) {
+            builder.httpConfiguration(S3CrtHttpConfiguration.builder()
+                    .connectionTimeout(Duration.ofMillis(oskProperties.getConnectionTimeoutMillis()))
+                    .build());
+        }
+        if (oskProperties.getEndpoint() != null && !oskProperties.getEndpoint().isEmpty()) {
+            builder.endpointOverride(URI.create(oskProperties.getEndpoint()));
+        }
+        var credentialsProvider = buildCredentialsProvider(oskProperties);
+        if (credentialsProvider != null) {
+            builder.credentialsProvider(credentialsProvider);
+        }
+        return builder.build();
+    }
+
     private S3Configuration buildS3Configuration(OskProperties oskProperties) {
         S3Configuration.Builder s3ConfigBuilder = S3Configuration.builder();
         if (Boolean.TRUE.equals(oskProperties.getPathStyleAccess())) {
@@ -67,6 +154,39 @@ public class S3Config {
         return httpClientBuilder.build();
     }
 
+    private SdkAsyncHttpClient buildAsyncHttpClient(OskProperties oskProperties) {
+        NettyNioAsyncHttpClient.Builder httpClientBuilder = NettyNioAsyncHttpClient.builder();
+        if (oskProperties.getAsyncMaxConcurrency() != null) {
+            httpClientBuilder.maxConcurrency(oskProperties.getAsyncMaxConcurrency());
+        }
+        if (oskProperties.getAsyncMaxPendingConnectionAcquires() != null) {
+            httpClientBuilder.maxPendingConnectionAcquires(oskProperties.getAsyncMaxPendingConnectionAcquires());
+        }
+        Integer readTimeoutMillis = oskProperties.getNettyReadTimeoutMillis() != null
+                ? oskProperties.getNettyReadTimeoutMillis() : oskProperties.getSocketTimeoutMillis();
+        if (readTimeoutMillis != null) {
+            httpClientBuilder.readTimeout(Duration.ofMillis(readTimeoutMillis));
+        }
+        Integer writeTimeoutMillis = oskProperties.getNettyWriteTimeoutMillis() != null
+                ? oskProperties.getNettyWriteTimeoutMillis() : oskProperties.getSocketTimeoutMillis();
+        if (writeTimeoutMillis != null) {
+            httpClientBuilder.writeTimeout(Duration.ofMillis(writeTimeoutMillis));
+        }
+        if (oskProperties.getConnectionTimeoutMillis() != null) {
+            httpClientBuilder.connectionTimeout(Duration.ofMillis(oskProperties.getConnectionTimeoutMillis()));
+        }
+        if (oskProperties.getNettyEventLoopThreads() != null) {
+            httpClientBuilder.eventLoopGroupBuilder(SdkEventLoopGroup.builder()
+                    .numberOfThreads(oskProperties.getNettyEventLoopThreads()));
+        }
+        if (oskProperties.getNettyTcpNoDelay() != null) {
+            httpClientBuilder.putChannelOption(ChannelOption.TCP_NODELAY, oskProperties.getNettyTcpNoDelay());
+        }
+        log.debug("Netty transport configured with max concurrency: {}, event-loop threads: {}, read timeout: {}ms, write timeout: {}ms",
+                oskProperties.getAsyncMaxConcurrency(), oskProperties.getNettyEventLoopThreads(), readTimeoutMillis, writeTimeoutMillis);
+        return httpClientBuilder.build();
+    }
+
     private ClientOverrideConfiguration buildOverrideConfiguration(OskProperties oskProperties) {
         ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
         if (oskProperties.getUserAgentPrefix() != null && !oskProperties.getUserAgentPrefix().isEmpty()) {
@@ -0,0 +1,89 @@
+package com.exabyting.springosk.core;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ObjectOperations}.
+ * Every method returns immediately; failures complete the returned future exceptionally
+ * with an {@link com.exabyting.springosk.exception.ObjectOperationException}.
+ */
+public interface AsyncObjectOperations {
+
+    /**
+     * Uploads an object to the specified bucket.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @param data the object data as a byte array
+     * @return a future completing with true once the object has been uploaded
+     */
+    CompletableFuture<Boolean> upload(String bucketName, String objectName, byte[] data);
+
+    /**
+     * Uploads a file from the local filesystem without loading it into memory.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @param file the file to upload
+     * @return a future completing with true once the object has been uploaded
+     */
+    CompletableFuture<Boolean> uploadFrom(String bucketName, String objectName, Path file);
+
+    /**
+     * Downloads an object from the specified bucket.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @return a future completing with the object data, or with null if the object was not found
+     */
+    CompletableFuture<byte[]> download(String bucketName, String objectName);
+
+    /**
+     * Downloads an object directly to a file, replacing the file if it already exists.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @param file the target file
+     * @return a future completing with true if the object was written, or false if it was not found
+     */
+    CompletableFuture<Boolean> downloadTo(String bucketName, String objectName, Path file);
+
+    /**
+     * Reads a byte range of an object using an HTTP Range request.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to read
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read
+     * @return a future completing with the bytes in the range, or with null if the object was not found
+     */
+    CompletableFuture<byte[]> read(String bucketName, String objectName, long offset, long length);
+
+    /**
+     * Returns the size of an object without downloading it.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @return a future completing with the object size in bytes, or with null if the object was not found
+     */
+    CompletableFuture<Long> getSize(String bucketName, String objectName);
+
+    /**
+     * Deletes an object from the specified bucket.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to delete
+     * @return a future completing with true once the object has been deleted
+     */
+    CompletableFuture<Boolean> delete(String bucketName, String objectName);
+
+    /**
+     * Lists all objects in the specified bucket.
+     *
+     * @param bucketName the name of the bucket
+     * @return a future completing with the object names in the bucket
+     */
+    CompletableFuture<Collection<String>> list(String bucketName);
+}
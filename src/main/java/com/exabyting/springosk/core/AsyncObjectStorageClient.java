@@ -0,0 +1,51 @@
+package com.exabyting.springosk.core;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking facade over {@link AsyncObjectOperations}, mirroring {@link ObjectStorageClient}.
+ * Calls return as soon as the request has been issued, so many storage calls can be in flight
+ * without holding a thread each.
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncObjectStorageClient {
+    private final AsyncObjectOperations asyncObjectOperations;
+
+    public CompletableFuture<Boolean> putObject(String bucketName, String objectKey, byte[] data) {
+        return asyncObjectOperations.upload(bucketName, objectKey, data);
+    }
+
+    public CompletableFuture<Boolean> uploadFrom(String bucketName, String objectKey, Path file) {
+        return asyncObjectOperations.uploadFrom(bucketName, objectKey, file);
+    }
+
+    public CompletableFuture<byte[]> getObject(String bucketName, String objectKey) {
+        return asyncObjectOperations.download(bucketName, objectKey);
+    }
+
+    public CompletableFuture<Boolean> downloadTo(String bucketName, String objectKey, Path file) {
+        return asyncObjectOperations.downloadTo(bucketName, objectKey, file);
+    }
+
+    public CompletableFuture<byte[]> getObjectRange(String bucketName, String objectKey, long offset, long length) {
+        return asyncObjectOperations.read(bucketName, objectKey, offset, length);
+    }
+
+    public CompletableFuture<Long> getObjectSize(String bucketName, String objectKey) {
+        return asyncObjectOperations.getSize(bucketName, objectKey);
+    }
+
+    public CompletableFuture<Boolean> deleteObject(String bucketName, String objectKey) {
+        return asyncObjectOperations.delete(bucketName, objectKey);
+    }
+
+    public CompletableFuture<List<String>> listObjects(String bucketName) {
+        return asyncObjectOperations.list(bucketName).thenApply(List::copyOf);
+    }
+}
@@ -15,17 +15,37 @@ public interface BucketOperations {
     Boolean create(String bucketName);
 
     /**
-     * Deletes the bucket with the specified name.
+     * Deletes the bucket with the specified name, after purging all of its objects.
+     * Fails if any object could not be deleted.
      *
      * @param bucketName the name of the bucket to delete
      * @return true if the bucket was deleted successfully, false otherwise
      */
     Boolean delete(String bucketName);
 
+    /**
+     * Deletes every object in the bucket, keeping the bucket itself. The listing is streamed: each page is deleted
+     * in one batch request while the next page is listed, with several batches in flight at a time.
+     *
+     * @param bucketName the name of the bucket to empty
+     * @return the number of deleted objects and the error per key that could not be deleted
+     */
+    BulkOperationResult purge(String bucketName);
+
     /**
      * Retrieves the names of all existing buckets.
      *
      * @return a collection of bucket names
      */
     Collection<String> getAllBuckets();
+
+    /**
+     * Computes the object count, total size and size histogram of the objects below a prefix.
+     * The listing is streamed page by page, so keys are never held in memory.
+     *
+     * @param bucketName the name of the bucket
+     * @param prefix only objects whose keys start with this prefix are counted, or null for the whole bucket
+     * @return the usage of the matching objects
+     */
+    BucketUsage getUsage(String bucketName, String prefix);
 }
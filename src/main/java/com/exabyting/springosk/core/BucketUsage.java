@@ -0,0 +1,87 @@
+package com.exabyting.springosk.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage used by the objects below a prefix.
+ *
+ * @param prefix the prefix the usage was computed for, or null for the whole bucket
+ * @param objectCount the number of objects
+ * @param totalBytes the total size of the objects in bytes
+ * @param largestObjectBytes the size of the largest object in bytes
+ * @param sizeHistogram object counts per size range, keyed by the exclusive upper bound of each range in bytes;
+ *                      the last range is keyed by {@link Long#MAX_VALUE}
+ */
+public record BucketUsage(String prefix, long objectCount, long totalBytes, long largestObjectBytes,
+                          Map<Long, Long> sizeHistogram) {
+
+    /**
+     * Exclusive upper bounds of the histogram size ranges, chosen around common multipart part sizes and limits.
+     */
+    public static final List<Long> SIZE_RANGE_BOUNDS = List.of(
+            1024L,                      // 1 KiB
+            64L * 1024,                 // 64 KiB
+            1024L * 1024,               // 1 MiB
+            8L * 1024 * 1024,           // 8 MiB
+            64L * 1024 * 1024,          // 64 MiB
+            512L * 1024 * 1024,         // 512 MiB
+            5L * 1024 * 1024 * 1024,    // 5 GiB
+            Long.MAX_VALUE
+    );
+
+    public BucketUsage {
+        sizeHistogram = Collections.unmodifiableMap(new LinkedHashMap<>(sizeHistogram));
+    }
+
+    /**
+     * @return the average object size in bytes, or 0 if there are no objects
+     */
+    public long averageObjectBytes() {
+        return objectCount == 0 ? 0 : totalBytes / objectCount;
+    }
+
+    /**
+     * Aggregates object sizes one at a time, so usage can be computed while streaming through a listing.
+     */
+    public static final class Accumulator {
+        private final String prefix;
+        private final long[] counts = new long[SIZE_RANGE_BOUNDS.size()];
+        private long objectCount;
+        private long totalBytes;
+        private long largestObjectBytes;
+
+        public Accumulator(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Adds one object.
+         *
+         * @param sizeBytes the size of the object in bytes
+         */
+        public void add(long sizeBytes) {
+            objectCount++;
+            totalBytes += sizeBytes;
+            largestObjectBytes = Math.max(largestObjectBytes, sizeBytes);
+            int range = 0;
+            while (sizeBytes >= SIZE_RANGE_BOUNDS.get(range) && range < counts.length - 1) {
+                range++;
+            }
+            counts[range]++;
+        }
+
+        /**
+         * @return the usage of the objects added so far
+         */
+        public BucketUsage toUsage() {
+            Map<Long, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                histogram.put(SIZE_RANGE_BOUNDS.get(i), counts[i]);
+            }
+            return new BucketUsage(prefix, objectCount, totalBytes, largestObjectBytes, histogram);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.exabyting.springosk.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of an operation applied to many objects, where individual objects may fail.
+ *
+ * @param successCount the number of objects the operation succeeded for
+ * @param failures the error message per object key the operation failed for
+ */
+public record BulkOperationResult(long successCount, Map<String, String> failures) {
+
+    public BulkOperationResult {
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * @return a result for no objects
+     */
+    public static BulkOperationResult empty() {
+        return new BulkOperationResult(0, Map.of());
+    }
+
+    /**
+     * @return the number of objects the operation failed for
+     */
+    public long failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return whether the operation succeeded for every object
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Combines this result with the result for another set of objects.
+     *
+     * @param other the other result
+     * @return the combined result
+     */
+    public BulkOperationResult merge(BulkOperationResult other) {
+        Map<String, String> combined = new LinkedHashMap<>(failures);
+        combined.putAll(other.failures);
+        return new BulkOperationResult(successCount + other.successCount, combined);
+    }
+}
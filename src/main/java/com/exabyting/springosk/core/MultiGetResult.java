@@ -0,0 +1,39 @@
+package com.exabyting.springosk.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The outcome of fetching many objects at once. Every requested key appears in exactly one of
+ * {@code objects}, {@code missingKeys} or {@code failures}, in the order the keys were requested.
+ *
+ * @param objects the content per key of the objects that were found
+ * @param missingKeys the keys of objects that do not exist
+ * @param failures the error message per key of objects that could not be fetched
+ */
+public record MultiGetResult(Map<String, byte[]> objects, Set<String> missingKeys, Map<String, String> failures) {
+
+    public MultiGetResult {
+        objects = Collections.unmodifiableMap(new LinkedHashMap<>(objects));
+        missingKeys = Collections.unmodifiableSet(new LinkedHashSet<>(missingKeys));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * @param objectKey the key of a requested object
+     * @return the object content, or null if the object was missing or could not be fetched
+     */
+    public byte[] get(String objectKey) {
+        return objects.get(objectKey);
+    }
+
+    /**
+     * @return whether every requested object was either found or reported missing
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.exabyting.springosk.core;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for listing the objects of a bucket.
+ * <p>
+ * Listings are recursive by default, returning every key under {@code prefix}. With {@code recursive = false}
+ * keys are grouped by {@code delimiter} ({@code "/"} unless set), returning the keys directly under the prefix
+ * plus the common prefixes ("folders") below it.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ObjectListRequest {
+
+    public static final String DEFAULT_DELIMITER = "/";
+
+    /**
+     * Only keys starting with this prefix are listed.
+     */
+    String prefix;
+
+    /**
+     * The delimiter used to group keys when the listing is not recursive.
+     */
+    String delimiter;
+
+    /**
+     * Whether to list every key below the prefix instead of grouping by delimiter.
+     */
+    @Builder.Default
+    boolean recursive = true;
+
+    /**
+     * The maximum number of keys and common prefixes returned, or null for no limit.
+     */
+    Integer maxKeys;
+
+    /**
+     * Listing starts after this key.
+     */
+    String startAfter;
+
+    /**
+     * The number of listing pages fetched in the background ahead of a streaming consumer, or 0 to fetch each page
+     * only when the previous one has been consumed. Only applies to streamed listings.
+     */
+    @Builder.Default
+    int prefetchPages = 0;
+
+    /**
+     * @return the delimiter to send with the listing request, or null for a recursive listing
+     */
+    public String effectiveDelimiter() {
+        if (recursive) {
+            return null;
+        }
+        return delimiter == null || delimiter.isEmpty() ? DEFAULT_DELIMITER : delimiter;
+    }
+
+    /**
+     * @return a request listing every key in the bucket
+     */
+    public static ObjectListRequest all() {
+        return ObjectListRequest.builder().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.exabyting.springosk.core;
+
+import java.util.List;
+
+/**
+ * The result of a bucket listing.
+ *
+ * @param objects the listed objects, in lexicographical key order
+ * @param commonPrefixes the common prefixes ("folders") found by a non-recursive listing
+ */
+public record ObjectListing(List<ObjectSummary> objects, List<String> commonPrefixes) {
+
+    public ObjectListing {
+        objects = List.copyOf(objects);
+        commonPrefixes = List.copyOf(commonPrefixes);
+    }
+
+    /**
+     * @return the keys of the listed objects
+     */
+    public List<String> keys() {
+        return objects.stream().map(ObjectSummary::key).toList();
+    }
+}
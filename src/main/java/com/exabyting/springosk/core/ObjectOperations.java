@@ -1,11 +1,20 @@
 package com.exabyting.springosk.core;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Interface for object operations such as upload, download, delete, and list objects in a bucket.
  */
 public interface ObjectOperations {
+    /**
+     * Content length to pass when the size of an upload stream is not known in advance.
+     */
+    long UNKNOWN_CONTENT_LENGTH = -1L;
+
     /**
      * Uploads an object to the specified bucket.
      *
@@ -16,6 +25,20 @@ public interface ObjectOperations {
      */
     Boolean upload(String bucketName, String objectName, byte[] data);
 
+    /**
+     * Uploads an object to the specified bucket by streaming it from the given input stream.
+     * When the content length is unknown, the stream is consumed through a bounded buffer
+     * instead of being loaded into memory. With a known content length exactly that many bytes are read,
+     * and a stream that ends early fails the upload. The stream is not closed by this method.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to upload
+     * @param inputStream the stream providing the object data
+     * @param contentLength the number of bytes to upload, or {@link #UNKNOWN_CONTENT_LENGTH} if unknown
+     * @return true if the upload was successful, false otherwise
+     */
+    Boolean upload(String bucketName, String objectName, InputStream inputStream, long contentLength);
+
     /**
      * Downloads an object from the specified bucket.
      *
@@ -25,6 +48,149 @@ public interface ObjectOperations {
      */
     byte[] download(String bucketName, String objectName);
 
+    /**
+     * Opens a stream over the content of an object without loading it into memory.
+     * The caller must close the returned stream to release the underlying connection.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @return a stream over the object content, or null if not found
+     */
+    InputStream openStream(String bucketName, String objectName);
+
+    /**
+     * Streams the content of an object to the given handler. The underlying connection is
+     * released when the handler returns, even if it did not read the whole object.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @param handler the callback consuming the object content
+     * @param <T> the type of the value produced by the handler
+     * @return the value returned by the handler, or null if the object was not found
+     */
+    <T> T download(String bucketName, String objectName, ObjectStreamHandler<T> handler);
+
+    /**
+     * Uploads the content of a local file, streaming it from disk without loading it into memory.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to upload
+     * @param file the file to upload
+     * @return true if the upload was successful, false otherwise
+     */
+    Boolean uploadFrom(String bucketName, String objectName, Path file);
+
+    /**
+     * Downloads an object straight to a local file, replacing the file if it already exists.
+     * Missing parent directories are created.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @param file the destination file
+     * @return true if the object was downloaded, false if it was not found
+     */
+    Boolean downloadTo(String bucketName, String objectName, Path file);
+
+    /**
+     * Downloads an object into memory using concurrent ranged GET requests.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @return the data of the object, or null if not found
+     */
+    byte[] downloadParallel(String bucketName, String objectName);
+
+    /**
+     * Downloads an object to a local file using concurrent ranged GET requests,
+     * replacing the file if it already exists.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @param file the destination file
+     * @return true if the object was downloaded, false if it was not found
+     */
+    Boolean downloadParallel(String bucketName, String objectName, Path file);
+
+    /**
+     * Downloads an object into a stream using concurrent ranged GET requests.
+     * Chunks are written in order; the stream is not closed.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @param outputStream the destination stream
+     * @return true if the object was downloaded, false if it was not found
+     */
+    Boolean downloadParallel(String bucketName, String objectName, OutputStream outputStream);
+
+    /**
+     * Reads a byte range of an object using an HTTP Range request.
+     * The result is shorter than requested when the range extends past the end of the object,
+     * and empty when the offset is at or beyond the end.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to read
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read
+     * @return the bytes in the range, or null if the object was not found
+     */
+    byte[] read(String bucketName, String objectName, long offset, long length);
+
+    /**
+     * Reads a byte range of an object, pinned to the given ETag with an If-Match precondition
+     * so that a range is never served from a newer version of the object.
+     * The read fails if the object no longer has the given ETag.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to read
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read
+     * @param eTag the ETag the object must still have, or null to read whatever version is current
+     * @return the bytes in the range, or null if the object was not found
+     */
+    byte[] read(String bucketName, String objectName, long offset, long length, String eTag);
+
+    /**
+     * Reads the last bytes of an object using an HTTP suffix Range request,
+     * e.g. to fetch an archive footer without knowing the object size.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to read
+     * @param length the maximum number of trailing bytes to read
+     * @return the trailing bytes, or null if the object was not found
+     */
+    byte[] readSuffix(String bucketName, String objectName, long length);
+
+    /**
+     * Returns the size of an object without downloading it.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @return the object size in bytes, or null if the object was not found
+     */
+    Long getSize(String bucketName, String objectName);
+
+    /**
+     * Returns the metadata of an object without downloading it.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @return the object metadata, or null if the object was not found
+     */
+    ObjectSummary getSummary(String bucketName, String objectName);
+
+    /**
+     * Copies an object server-side, without transferring its content through the client.
+     * Objects larger than 5 GiB, the limit of a single copy request, are copied as multipart uploads
+     * whose parts are copied server-side.
+     *
+     * @param sourceBucketName the name of the bucket to copy from
+     * @param sourceObjectName the name of the object to copy
+     * @param targetBucketName the name of the bucket to copy to
+     * @param targetObjectName the name of the copy
+     * @return true if the object was copied successfully, false if the source object was not found
+     */
+    Boolean copy(String sourceBucketName, String sourceObjectName, String targetBucketName, String targetObjectName);
+
     /**
      * Deletes an object from the specified bucket.
      *
@@ -34,11 +200,67 @@ public interface ObjectOperations {
      */
     Boolean delete(String bucketName, String objectName);
 
+    /**
+     * Deletes many objects with batched delete requests of up to 1000 keys, several batches at a time.
+     * Failures of individual keys, or of whole batches, are reported in the result instead of being thrown.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectNames the names of the objects to delete
+     * @return the number of deleted objects and the error per key that could not be deleted
+     */
+    BulkOperationResult deleteAll(String bucketName, Collection<String> objectNames);
+
     /**
      * Lists all object names in the specified bucket.
+     * The whole listing is held in memory; use {@link #stream(String)} for large buckets.
      *
      * @param bucketName the name of the bucket
      * @return a collection of object names in the bucket
      */
     Collection<String> list(String bucketName);
+
+    /**
+     * Lazily lists all object names in the specified bucket.
+     * Listing pages are fetched on demand as the stream is consumed, so buckets of any size
+     * can be walked in constant memory. Errors while fetching a page are thrown from the
+     * consuming operation as {@link com.exabyting.springosk.exception.ObjectOperationException}.
+     *
+     * @param bucketName the name of the bucket
+     * @return a lazy, sequential stream of object names
+     */
+    Stream<String> stream(String bucketName);
+
+    /**
+     * Lazily lists the objects in the specified bucket matching the request, with the metadata
+     * contained in the listing response. Pages are fetched on demand as the stream is consumed.
+     * Common prefixes of a non-recursive listing are not part of the stream; use
+     * {@link #list(String, ObjectListRequest)} to obtain them.
+     *
+     * @param bucketName the name of the bucket
+     * @param request the listing options
+     * @return a lazy, sequential stream of object summaries in key order
+     */
+    Stream<ObjectSummary> stream(String bucketName, ObjectListRequest request);
+
+    /**
+     * Lists the objects in the specified bucket matching the request, fetching as many listing pages
+     * as needed. The result holds at most {@link ObjectListRequest#getMaxKeys()} entries.
+     *
+     * @param bucketName the name of the bucket
+     * @param request the listing options
+     * @return the matching keys and, for non-recursive listings, common prefixes
+     */
+    ObjectListing list(String bucketName, ObjectListRequest request);
+
+    /**
+     * Lists a single page of the objects below a prefix with one listing request, e.g. for paging through a bucket
+     * in a user interface. The returned cursor is opaque and only valid for the same bucket and prefix.
+     *
+     * @param bucketName the name of the bucket
+     * @param prefix only keys starting with this prefix are listed, may be null
+     * @param pageSize the maximum number of objects on the page, at most 1000
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @return the page and the cursor of the next page
+     */
+    ObjectPage listPage(String bucketName, String prefix, int pageSize, String cursor);
 }
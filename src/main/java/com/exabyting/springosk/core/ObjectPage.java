@@ -0,0 +1,30 @@
+package com.exabyting.springosk.core;
+
+import java.util.List;
+
+/**
+ * One page of a bucket listing.
+ *
+ * @param objects the objects of this page, in lexicographical key order
+ * @param nextCursor the opaque cursor to pass back for the next page, or null if this is the last page
+ */
+public record ObjectPage(List<ObjectSummary> objects, String nextCursor) {
+
+    public ObjectPage {
+        objects = List.copyOf(objects);
+    }
+
+    /**
+     * @return the keys of the objects on this page
+     */
+    public List<String> keys() {
+        return objects.stream().map(ObjectSummary::key).toList();
+    }
+
+    /**
+     * @return whether another page may follow
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,15 +1,35 @@
 package com.exabyting.springosk.core;
 
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Batches;
+import com.exabyting.springosk.support.BulkPipeline;
+import com.exabyting.springosk.support.ShardedListing;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class ObjectStorageClient {
+    private static final int BULK_BATCH_SIZE = 1000;
+
     private final BucketOperations bucketOperations;
     private final ObjectOperations objectOperations;
+    private final OskProperties oskProperties;
+    private final ObjectStorageExecutor objectStorageExecutor;
 
     // Bucket Operations
     public boolean createBucket(String bucketName) {
@@ -20,20 +40,292 @@ public class ObjectStorageClient {
         return bucketOperations.delete(bucketName);
     }
 
+    /**
+     * Deletes every object in a bucket, keeping the bucket. Keys that could not be deleted are reported in the result.
+     */
+    public BulkOperationResult purgeBucket(String bucketName) {
+        return bucketOperations.purge(bucketName);
+    }
+
     public List<String> listBuckets() {
         return List.copyOf(bucketOperations.getAllBuckets());
     }
 
+    /**
+     * Computes the object count, total size and size histogram of a bucket by streaming through its listing.
+     */
+    public BucketUsage getBucketUsage(String bucketName) {
+        return bucketOperations.getUsage(bucketName, null);
+    }
+
+    public BucketUsage getBucketUsage(String bucketName, String prefix) {
+        return bucketOperations.getUsage(bucketName, prefix);
+    }
+
     // Object Operations
     public Boolean putObject(String bucketName, String objectKey, byte[] inputStream) {
         return objectOperations.upload(bucketName, objectKey, inputStream);
     }
 
+    public Boolean putObject(String bucketName, String objectKey, InputStream inputStream, long contentLength) {
+        return objectOperations.upload(bucketName, objectKey, inputStream, contentLength);
+    }
+
+    public Boolean putObject(String bucketName, String objectKey, InputStream inputStream) {
+        return objectOperations.upload(bucketName, objectKey, inputStream, ObjectOperations.UNKNOWN_CONTENT_LENGTH);
+    }
+
+    /**
+     * Uploads many objects concurrently, with at most {@code bulk-concurrency} uploads in flight.
+     * Keys that could not be uploaded are reported in the result.
+     */
+    public BulkOperationResult uploadAll(String bucketName, Map<String, UploadSource> objects) {
+        return uploadAll(bucketName, objects, oskProperties.getBulkConcurrency());
+    }
+
+    public BulkOperationResult uploadAll(String bucketName, Map<String, UploadSource> objects, int maxConcurrency) {
+        if (objects == null || objects.entrySet().stream().anyMatch(object -> object.getKey() == null || object.getValue() == null)) {
+            throw new IllegalArgumentException("Object keys and upload sources cannot be null");
+        }
+        return forEachKey(List.copyOf(objects.keySet()), maxConcurrency, objectKey ->
+                objects.get(objectKey).uploadTo(objectOperations, bucketName, objectKey) ? null : "Upload failed");
+    }
+
+    public byte[] getObject(String bucketName, String objectKey) {
+        return objectOperations.download(bucketName, objectKey);
+    }
+
+    /**
+     * Downloads many small objects into memory concurrently, with at most {@code bulk-concurrency} downloads in flight.
+     * Objects that do not exist are reported separately from objects that could not be fetched.
+     */
+    public MultiGetResult getAll(String bucketName, Collection<String> objectKeys) {
+        return getAll(bucketName, objectKeys, oskProperties.getBulkConcurrency());
+    }
+
+    public MultiGetResult getAll(String bucketName, Collection<String> objectKeys, int maxConcurrency) {
+        if (objectKeys == null || objectKeys.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Object keys cannot be null");
+        }
+        List<String> distinctKeys = objectKeys.stream().distinct().toList();
+        Map<String, byte[]> found = new ConcurrentHashMap<>();
+        BulkOperationResult result = forEachKey(distinctKeys, maxConcurrency, objectKey -> {
+            byte[] data = objectOperations.download(bucketName, objectKey);
+            if (data != null) {
+                found.put(objectKey, data);
+            }
+            return null;
+        });
+
+        Map<String, byte[]> objects = new LinkedHashMap<>();
+        Set<String> missingKeys = new LinkedHashSet<>();
+        for (String objectKey : distinctKeys) {
+            if (found.containsKey(objectKey)) {
+                objects.put(objectKey, found.get(objectKey));
+            } else if (!result.failures().containsKey(objectKey)) {
+                missingKeys.add(objectKey);
+            }
+        }
+        return new MultiGetResult(objects, missingKeys, result.failures());
+    }
+
+    public InputStream getObjectStream(String bucketName, String objectKey) {
+        return objectOperations.openStream(bucketName, objectKey);
+    }
+
+    public <T> T getObject(String bucketName, String objectKey, ObjectStreamHandler<T> handler) {
+        return objectOperations.download(bucketName, objectKey, handler);
+    }
+
+    public Boolean uploadFrom(String bucketName, String objectKey, Path file) {
+        return objectOperations.uploadFrom(bucketName, objectKey, file);
+    }
+
+    public Boolean downloadTo(String bucketName, String objectKey, Path file) {
+        return objectOperations.downloadTo(bucketName, objectKey, file);
+    }
+
+    public byte[] downloadParallel(String bucketName, String objectKey) {
+        return objectOperations.downloadParallel(bucketName, objectKey);
+    }
+
+    public Boolean downloadParallel(String bucketName, String objectKey, Path file) {
+        return objectOperations.downloadParallel(bucketName, objectKey, file);
+    }
+
+    public Boolean downloadParallel(String bucketName, String objectKey, OutputStream outputStream) {
+        return objectOperations.downloadParallel(bucketName, objectKey, outputStream);
+    }
+
+    public byte[] getObjectRange(String bucketName, String objectKey, long offset, long length) {
+        return objectOperations.read(bucketName, objectKey, offset, length);
+    }
+
+    public byte[] getObjectSuffix(String bucketName, String objectKey, long length) {
+        return objectOperations.readSuffix(bucketName, objectKey, length);
+    }
+
+    public Long getObjectSize(String bucketName, String objectKey) {
+        return objectOperations.getSize(bucketName, objectKey);
+    }
+
+    /**
+     * Opens a read-only seekable channel over an object, using the configured block and cache sizes.
+     * Returns null if the object does not exist.
+     */
+    public SeekableObjectChannel openChannel(String bucketName, String objectKey) {
+        return openChannel(bucketName, objectKey,
+                oskProperties.getChannelBlockSizeBytes(), oskProperties.getChannelCacheMaxBytes());
+    }
+
+    public SeekableObjectChannel openChannel(String bucketName, String objectKey, int blockSizeBytes, long cacheMaxBytes) {
+        ObjectSummary summary = objectOperations.getSummary(bucketName, objectKey);
+        if (summary == null) {
+            return null;
+        }
+        return new SeekableObjectChannel(objectOperations, bucketName, objectKey,
+                summary.size(), summary.eTag(), blockSizeBytes, cacheMaxBytes);
+    }
+
+    /**
+     * Copies an object server-side; nothing is transferred through the client.
+     * Returns false if the source object does not exist.
+     */
+    public Boolean copyObject(String sourceBucketName, String sourceObjectKey, String targetBucketName, String targetObjectKey) {
+        return objectOperations.copy(sourceBucketName, sourceObjectKey, targetBucketName, targetObjectKey);
+    }
+
     public boolean deleteObject(String bucketName, String objectKey) {
         return objectOperations.delete(bucketName, objectKey);
     }
 
+    /**
+     * Deletes many objects with batched delete requests. Keys that could not be deleted are reported in the result.
+     */
+    public BulkOperationResult deleteObjects(String bucketName, Collection<String> objectKeys) {
+        return objectOperations.deleteAll(bucketName, objectKeys);
+    }
+
+    /**
+     * Deletes every object under a prefix. Keys are listed page by page and each page is deleted with batched
+     * delete requests while the next page is listed. Keys that could not be deleted are reported in the result.
+     */
+    public BulkOperationResult deletePrefix(String bucketName, String prefix) {
+        requirePrefix(prefix);
+        try (Stream<String> objectKeys = streamKeys(bucketName, prefix)) {
+            return BulkPipeline.run(Batches.of(objectKeys.iterator(), BULK_BATCH_SIZE), oskProperties.getDeleteConcurrency(),
+                    objectStorageExecutor, batch -> objectOperations.deleteAll(bucketName, batch));
+        }
+    }
+
+    /**
+     * Moves every object under {@code fromPrefix} to the same key under {@code toPrefix} with server-side copies,
+     * then deletes the copied sources in batches. Objects that could not be copied are left in place;
+     * keys that could not be copied or deleted are reported in the result.
+     */
+    public BulkOperationResult movePrefix(String bucketName, String fromPrefix, String toPrefix) {
+        requirePrefix(fromPrefix);
+        if (toPrefix == null || toPrefix.startsWith(fromPrefix)) {
+            throw new IllegalArgumentException("Target prefix cannot be null or lie under the source prefix");
+        }
+        // One page is copied at a time, with its copies spread over bulkConcurrency requests, while the next page is listed
+        try (Stream<String> objectKeys = streamKeys(bucketName, fromPrefix)) {
+            return BulkPipeline.run(Batches.of(objectKeys.iterator(), BULK_BATCH_SIZE), 1, objectStorageExecutor,
+                    batch -> moveBatch(bucketName, batch, fromPrefix, toPrefix));
+        }
+    }
+
     public List<String> listObjects(String bucketName) {
         return List.copyOf(objectOperations.list(bucketName));
     }
+
+    public ObjectListing listObjects(String bucketName, ObjectListRequest request) {
+        return objectOperations.list(bucketName, request);
+    }
+
+    /**
+     * Lists one page of objects with a single listing request. Pass the returned cursor back to get the next page.
+     */
+    public ObjectPage listPage(String bucketName, String prefix, int pageSize, String cursor) {
+        return objectOperations.listPage(bucketName, prefix, pageSize, cursor);
+    }
+
+    /**
+     * Lazily lists all object names in a bucket, fetching listing pages as the stream is consumed.
+     */
+    public Stream<String> streamObjects(String bucketName) {
+        return objectOperations.stream(bucketName);
+    }
+
+    /**
+     * Lazily lists the objects matching the request with their size, ETag, last-modified time and storage class.
+     */
+    public Stream<ObjectSummary> streamObjects(String bucketName, ObjectListRequest request) {
+        return objectOperations.stream(bucketName, request);
+    }
+
+    /**
+     * Lists a large bucket with several concurrent listing requests, one per key range ("shard").
+     * The shards are split at the request's alphabet or, if enabled, at the common prefixes below its prefix.
+     */
+    public Stream<ObjectSummary> streamObjectsParallel(String bucketName, ParallelListRequest request) {
+        List<String> boundaries = request.isDiscoverPrefixes()
+                ? objectOperations.list(bucketName, ObjectListRequest.builder()
+                        .prefix(request.getPrefix())
+                        .recursive(false)
+                        .delimiter(request.getDelimiter())
+                        .build()).commonPrefixes()
+                : ShardedListing.alphabetBoundaries(request.getPrefix(), request.getAlphabet());
+        ShardedListing.PageLoader loader = (startAfter, pageSize) -> objectOperations.list(bucketName, ObjectListRequest.builder()
+                .prefix(request.getPrefix())
+                .startAfter(startAfter)
+                .maxKeys(pageSize)
+                .build()).objects();
+        return ShardedListing.stream(loader, boundaries, objectStorageExecutor,
+                request.getConcurrency(), request.isOrdered(), request.getPageSize(),
+                "Failed to list objects in bucket: " + bucketName);
+    }
+
+    private BulkOperationResult moveBatch(String bucketName, List<String> objectKeys, String fromPrefix, String toPrefix) {
+        BulkOperationResult copies = forEachKey(objectKeys, oskProperties.getBulkConcurrency(), objectKey ->
+                objectOperations.copy(bucketName, objectKey, bucketName, toPrefix + objectKey.substring(fromPrefix.length()))
+                        ? null : "Object not found");
+        List<String> copiedKeys = objectKeys.stream()
+                .filter(objectKey -> !copies.failures().containsKey(objectKey))
+                .toList();
+        return new BulkOperationResult(0, copies.failures()).merge(objectOperations.deleteAll(bucketName, copiedKeys));
+    }
+
+    /**
+     * Runs a single-object request per key with bounded concurrency. The task returns null on success or
+     * the reason the key failed; exceptions are recorded as failures of their key instead of stopping the run.
+     */
+    private BulkOperationResult forEachKey(List<String> objectKeys, int maxConcurrency, Function<String, String> task) {
+        List<String> errors = objectStorageExecutor.mapAll(objectKeys, maxConcurrency, objectKey -> {
+            try {
+                return task.apply(objectKey);
+            } catch (RuntimeException e) {
+                return Objects.requireNonNullElse(e.getMessage(), e.getClass().getName());
+            }
+        }).join();
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < objectKeys.size(); i++) {
+            if (errors.get(i) != null) {
+                failures.put(objectKeys.get(i), errors.get(i));
+            }
+        }
+        return new BulkOperationResult(objectKeys.size() - failures.size(), failures);
+    }
+
+    private Stream<String> streamKeys(String bucketName, String prefix) {
+        return objectOperations.stream(bucketName, ObjectListRequest.builder().prefix(prefix).build())
+                .map(ObjectSummary::key);
+    }
+
+    private static void requirePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("Prefix cannot be empty; use purgeBucket to delete a whole bucket");
+        }
+    }
 }
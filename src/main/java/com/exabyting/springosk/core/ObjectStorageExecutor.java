@@ -0,0 +1,256 @@
+package com.exabyting.springosk.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shared executor used by the kit for background storage work such as parallel part uploads.
+ * Concurrency of individual operations is bounded by the operations themselves; this executor
+ * only caps the total number of threads. It can be backed by a platform thread pool or, on Java 21+,
+ * by virtual threads, which suit large numbers of concurrent blocking storage calls.
+ */
+@Slf4j
+public class ObjectStorageExecutor implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int UNBOUNDED = 0;
+
+    private final ExecutorService executorService;
+    private final int maxThreads;
+    // Tasks handed to a bounded pool that have not finished yet, whether running or queued
+    private final AtomicInteger reservedThreads = new AtomicInteger();
+    private final ThreadLocal<Boolean> poolThread = new ThreadLocal<>();
+    private final Executor executor = this::execute;
+
+    public ObjectStorageExecutor(ExecutorService executorService) {
+        this(executorService, UNBOUNDED);
+    }
+
+    private ObjectStorageExecutor(ExecutorService executorService, int maxThreads) {
+        this.executorService = executorService;
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Creates an executor backed by a pool of platform threads. When all threads are busy, tasks wait in a queue
+     * for a free thread; the submitting thread never runs them itself, so callers such as event loops are not
+     * blocked. Only a pool thread that submits nested work while no thread is left for it runs that work itself,
+     * because waiting for a task that can never get a thread would deadlock the pool.
+     *
+     * @param maxThreads the maximum number of pooled threads
+     * @return a new executor
+     */
+    public static ObjectStorageExecutor platform(int maxThreads) {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedDaemonThreadFactory("osk-worker-")
+        );
+        threadPool.allowCoreThreadTimeOut(true);
+        return new ObjectStorageExecutor(threadPool, maxThreads);
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per task, if the runtime supports virtual threads.
+     * The kit targets Java 17, so the Java 21 factory method is looked up reflectively.
+     *
+     * @return a new executor, or empty if virtual threads are not available
+     */
+    public static Optional<ObjectStorageExecutor> virtual() {
+        try {
+            ExecutorService executorService = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            return Optional.of(new ObjectStorageExecutor(executorService));
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads are not available on this runtime: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Runs the given task in the background.
+     *
+     * @param task the task to run
+     * @param <T> the type of the task result
+     * @return a future completed with the task result
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Applies a blocking task to every input in the background, with at most {@code maxConcurrency}
+     * tasks running at a time. Results keep the order of the inputs. The first failure stops
+     * further inputs from being started and completes the returned future exceptionally.
+     *
+     * @param inputs the inputs to process
+     * @param maxConcurrency the maximum number of tasks running at a time
+     * @param task the task applied to each input
+     * @param <T> the input type
+     * @param <R> the result type
+     * @return a future completed with the results, in input order
+     */
+    public <T, R> CompletableFuture<List<R>> mapAll(Collection<T> inputs, int maxConcurrency, Function<? super T, ? extends R> task) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        List<T> items = List.copyOf(inputs);
+        Object[] results = new Object[items.size()];
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        // Each worker pulls the next unprocessed input, so no more than maxConcurrency tasks are ever queued
+        int workerCount = Math.min(maxConcurrency, items.size());
+        List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+        Runnable callerWorker = null;
+        for (int i = 0; i < workerCount && callerWorker == null; i++) {
+            CompletableFuture<Void> worker = new CompletableFuture<>();
+            Runnable work = () -> {
+                try {
+                    int index;
+                    while (!failed.get() && (index = nextIndex.getAndIncrement()) < items.size()) {
+                        results[index] = task.apply(items.get(index));
+                    }
+                    worker.complete(null);
+                } catch (Throwable e) {
+                    failed.set(true);
+                    worker.completeExceptionally(e);
+                }
+            };
+            workers.add(worker);
+            if (!tryExecute(work)) {
+                // Nested call with no thread left: the calling pool thread drains the remaining inputs itself
+                callerWorker = work;
+            }
+        }
+        if (callerWorker != null) {
+            callerWorker.run();
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<List<R>> all = CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> (List<R>) Arrays.asList(results));
+        return all;
+    }
+
+    /**
+     * Runs a blocking task for every input in the background, with at most {@code maxConcurrency} tasks running at a time.
+     *
+     * @param inputs the inputs to process
+     * @param maxConcurrency the maximum number of tasks running at a time
+     * @param task the task run for each input
+     * @param <T> the input type
+     * @return a future completed once every task has finished
+     */
+    public <T> CompletableFuture<Void> forAll(Collection<T> inputs, int maxConcurrency, Consumer<? super T> task) {
+        return mapAll(inputs, maxConcurrency, input -> {
+            task.accept(input);
+            return null;
+        }).thenApply(ignored -> null);
+    }
+
+    /**
+     * Returns the underlying executor, e.g. for composing {@link CompletableFuture} stages.
+     *
+     * @return the underlying executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    private void execute(Runnable task) {
+        if (!tryExecute(task)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Hands a task to the executor. Tasks from outside a bounded pool are always accepted and wait for a free
+     * thread if needed. A pool thread may only hand off a task while a thread is left to run it; otherwise the
+     * task is rejected so that the pool thread runs it instead of waiting for it forever.
+     *
+     * @return whether the task was handed off, false if the caller has to run it
+     */
+    private boolean tryExecute(Runnable task) {
+        if (maxThreads == UNBOUNDED) {
+            executorService.execute(task);
+            return true;
+        }
+        if (Boolean.TRUE.equals(poolThread.get())) {
+            int reserved;
+            do {
+                reserved = reservedThreads.get();
+                if (reserved >= maxThreads) {
+                    return false;
+                }
+            } while (!reservedThreads.compareAndSet(reserved, reserved + 1));
+        } else {
+            reservedThreads.incrementAndGet();
+        }
+        try {
+            executorService.execute(() -> {
+                poolThread.set(Boolean.TRUE);
+                try {
+                    task.run();
+                } finally {
+                    reservedThreads.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            reservedThreads.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Object storage executor did not terminate within {} seconds, forcing shutdown", SHUTDOWN_TIMEOUT_SECONDS);
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class NamedDaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private NamedDaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
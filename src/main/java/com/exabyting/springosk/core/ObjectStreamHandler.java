@@ -0,0 +1,22 @@
+package com.exabyting.springosk.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Callback that consumes the content of a stored object as a stream.
+ * The stream is only valid for the duration of the call and is closed by the caller afterwards.
+ *
+ * @param <T> the type of the value produced from the stream
+ */
+@FunctionalInterface
+public interface ObjectStreamHandler<T> {
+    /**
+     * Consumes the object content.
+     *
+     * @param inputStream the object content
+     * @return the value produced from the stream
+     * @throws IOException if reading the stream fails
+     */
+    T handle(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.exabyting.springosk.core;
+
+import java.time.Instant;
+
+/**
+ * Object metadata as returned by a bucket listing, without an extra request per object,
+ * or by a metadata request for a single object.
+ *
+ * @param key the object key
+ * @param size the object size in bytes
+ * @param eTag the entity tag of the object, as returned by the server
+ * @param lastModified when the object was last modified, or null if the server did not report it
+ * @param storageClass the storage class of the object, or null if the server did not report it
+ */
+public record ObjectSummary(String key, long size, String eTag, Instant lastModified, String storageClass) {
+}
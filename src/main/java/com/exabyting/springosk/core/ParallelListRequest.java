@@ -0,0 +1,60 @@
+package com.exabyting.springosk.core;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for listing a large bucket with several concurrent listing requests.
+ * <p>
+ * The keyspace below {@code prefix} is split into contiguous key ranges ("shards") at boundaries taken either
+ * from {@code alphabet} (one boundary per character appended to the prefix) or, when {@code discoverPrefixes}
+ * is set, from the common prefixes found under {@code prefix}. The shards together cover every key exactly once,
+ * whatever the key distribution; an alphabet that matches the keys just spreads the work more evenly.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ParallelListRequest {
+
+    public static final String DEFAULT_ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * Only keys starting with this prefix are listed.
+     */
+    String prefix;
+
+    /**
+     * Characters appended to the prefix to form shard boundaries.
+     */
+    @Builder.Default
+    String alphabet = DEFAULT_ALPHABET;
+
+    /**
+     * Whether to use the common prefixes below {@code prefix} as shard boundaries instead of the alphabet.
+     */
+    @Builder.Default
+    boolean discoverPrefixes = false;
+
+    /**
+     * The delimiter used to discover common prefixes.
+     */
+    @Builder.Default
+    String delimiter = ObjectListRequest.DEFAULT_DELIMITER;
+
+    /**
+     * The maximum number of shards listed at the same time.
+     */
+    @Builder.Default
+    int concurrency = 8;
+
+    /**
+     * Whether results are returned in key order. Unordered results are returned as soon as any shard delivers them.
+     */
+    @Builder.Default
+    boolean ordered = true;
+
+    /**
+     * The number of keys requested per listing page.
+     */
+    @Builder.Default
+    int pageSize = 1000;
+}
@@ -0,0 +1,36 @@
+package com.exabyting.springosk.core;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reactive streaming counterpart of {@link ObjectOperations}.
+ * Content flows as {@link ByteBuffer} chunks with backpressure in both directions, so objects are
+ * never buffered in full. Failures are signalled as {@link com.exabyting.springosk.exception.ObjectOperationException}.
+ */
+public interface ReactiveObjectOperations {
+
+    /**
+     * Uploads an object from a stream of byte buffers.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object
+     * @param content the object content
+     * @param contentLength the exact content length, or {@link ObjectOperations#UNKNOWN_CONTENT_LENGTH} if unknown
+     * @return a Mono emitting true once the object has been stored
+     */
+    Mono<Boolean> upload(String bucketName, String objectName, Publisher<ByteBuffer> content, long contentLength);
+
+    /**
+     * Downloads an object as a stream of byte buffers, requested as the subscriber demands them.
+     *
+     * @param bucketName the name of the bucket
+     * @param objectName the name of the object to download
+     * @return the object content; errors with {@link com.exabyting.springosk.exception.ObjectNotFoundException}
+     * if the object does not exist
+     */
+    Flux<ByteBuffer> download(String bucketName, String objectName);
+}
@@ -0,0 +1,55 @@
+package com.exabyting.springosk.core;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reactive facade over {@link ReactiveObjectOperations} for WebFlux applications.
+ * Uploads consume and release the given {@link DataBuffer}s; downloads emit buffers that the subscriber must release,
+ * as usual for WebFlux bodies.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveObjectStorageClient {
+    private static final DataBufferFactory DATA_BUFFER_FACTORY = DefaultDataBufferFactory.sharedInstance;
+
+    private final ReactiveObjectOperations reactiveObjectOperations;
+
+    public Mono<Boolean> putObject(String bucketName, String objectKey, Flux<DataBuffer> content, long contentLength) {
+        return reactiveObjectOperations.upload(bucketName, objectKey, content.map(ReactiveObjectStorageClient::toByteBuffer), contentLength);
+    }
+
+    public Mono<Boolean> putObject(String bucketName, String objectKey, Flux<DataBuffer> content) {
+        return putObject(bucketName, objectKey, content, ObjectOperations.UNKNOWN_CONTENT_LENGTH);
+    }
+
+    public Flux<DataBuffer> getObject(String bucketName, String objectKey) {
+        return reactiveObjectOperations.download(bucketName, objectKey).map(DATA_BUFFER_FACTORY::wrap);
+    }
+
+    public Mono<Boolean> putObjectBuffers(String bucketName, String objectKey, Flux<ByteBuffer> content, long contentLength) {
+        return reactiveObjectOperations.upload(bucketName, objectKey, content, contentLength);
+    }
+
+    public Flux<ByteBuffer> getObjectBuffers(String bucketName, String objectKey) {
+        return reactiveObjectOperations.download(bucketName, objectKey);
+    }
+
+    private static ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
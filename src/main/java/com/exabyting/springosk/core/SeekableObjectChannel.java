@@ -0,0 +1,154 @@
+package com.exabyting.springosk.core;
+
+import com.exabyting.springosk.support.BlockCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Read-only {@link SeekableByteChannel} over a stored object.
+ * Reads are served from fixed-size blocks fetched with range requests and kept in an LRU cache,
+ * so random-access readers (zip central directories, file footers, metadata parsers) only
+ * transfer the blocks they touch.
+ * When opened with an ETag, every block is fetched with an If-Match precondition, so an object
+ * overwritten while the channel is open fails the read instead of mixing blocks of two versions.
+ */
+public class SeekableObjectChannel implements SeekableByteChannel {
+
+    private final ObjectOperations objectOperations;
+    private final String bucketName;
+    private final String objectName;
+    private final long size;
+    private final String eTag;
+    private final int blockSize;
+    private final BlockCache blockCache;
+    private long position;
+    private boolean open = true;
+
+    public SeekableObjectChannel(ObjectOperations objectOperations, String bucketName, String objectName,
+                                 long size, int blockSize, long cacheMaxBytes) {
+        this(objectOperations, bucketName, objectName, size, null, blockSize, cacheMaxBytes);
+    }
+
+    /**
+     * @param eTag the ETag of the object when the channel was opened, or null to read whatever version is current
+     */
+    public SeekableObjectChannel(ObjectOperations objectOperations, String bucketName, String objectName,
+                                 long size, String eTag, int blockSize, long cacheMaxBytes) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.objectOperations = objectOperations;
+        this.bucketName = bucketName;
+        this.objectName = objectName;
+        this.size = size;
+        this.eTag = eTag;
+        this.blockSize = blockSize;
+        this.blockCache = new BlockCache(cacheMaxBytes);
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        if (position >= size) {
+            return -1;
+        }
+
+        int total = 0;
+        while (dst.hasRemaining() && position < size) {
+            long blockIndex = position / blockSize;
+            byte[] block = blockCache.get(blockIndex, this::loadBlock);
+            int offsetInBlock = (int) (position - blockIndex * blockSize);
+            int count = Math.min(dst.remaining(), block.length - offsetInBlock);
+            if (count <= 0) {
+                throw new IOException("Object '" + objectName + "' is shorter than its reported size of " + size + " bytes");
+            }
+            dst.put(block, offsetInBlock, count);
+            position += count;
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Position cannot be negative");
+        }
+        this.position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long newSize) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+        blockCache.clear();
+    }
+
+    /**
+     * @return the number of reads served from cached blocks
+     */
+    public long getCacheHits() {
+        return blockCache.getHits();
+    }
+
+    /**
+     * @return the number of blocks fetched from storage
+     */
+    public long getCacheMisses() {
+        return blockCache.getMisses();
+    }
+
+    /**
+     * @return the number of bytes currently held in the block cache
+     */
+    public long getCachedBytes() {
+        return blockCache.getCachedBytes();
+    }
+
+    private byte[] loadBlock(long blockIndex) throws IOException {
+        long offset = blockIndex * blockSize;
+        byte[] block = objectOperations.read(bucketName, objectName, offset, Math.min(blockSize, size - offset), eTag);
+        if (block == null) {
+            throw new IOException("Object '" + objectName + "' no longer exists in bucket '" + bucketName + "'");
+        }
+        return block;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
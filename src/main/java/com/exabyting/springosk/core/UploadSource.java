@@ -0,0 +1,76 @@
+package com.exabyting.springosk.core;
+
+import com.exabyting.springosk.exception.ObjectOperationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The content of one object of a bulk upload.
+ * Files and streams are only opened when their upload starts, so a bulk upload never holds more
+ * open sources than it has uploads in flight.
+ */
+public final class UploadSource {
+
+    /**
+     * Opens the stream to upload. The stream is closed once the upload finishes.
+     */
+    @FunctionalInterface
+    public interface StreamOpener {
+        /**
+         * Opens the content stream.
+         *
+         * @return the content to upload
+         * @throws IOException if the stream cannot be opened
+         */
+        InputStream open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Uploader {
+        Boolean upload(ObjectOperations objectOperations, String bucketName, String objectName) throws IOException;
+    }
+
+    private final Uploader uploader;
+
+    private UploadSource(Uploader uploader) {
+        this.uploader = uploader;
+    }
+
+    public static UploadSource of(byte[] data) {
+        Objects.requireNonNull(data, "Data cannot be null");
+        return new UploadSource((objectOperations, bucketName, objectName) -> objectOperations.upload(bucketName, objectName, data));
+    }
+
+    public static UploadSource of(Path file) {
+        Objects.requireNonNull(file, "File cannot be null");
+        return new UploadSource((objectOperations, bucketName, objectName) -> objectOperations.uploadFrom(bucketName, objectName, file));
+    }
+
+    public static UploadSource of(StreamOpener opener) {
+        return of(opener, ObjectOperations.UNKNOWN_CONTENT_LENGTH);
+    }
+
+    /**
+     * @param opener opens the content stream when the upload starts
+     * @param contentLength the number of bytes to upload, or {@link ObjectOperations#UNKNOWN_CONTENT_LENGTH} if unknown
+     */
+    public static UploadSource of(StreamOpener opener, long contentLength) {
+        Objects.requireNonNull(opener, "Stream opener cannot be null");
+        return new UploadSource((objectOperations, bucketName, objectName) -> {
+            try (InputStream inputStream = opener.open()) {
+                return objectOperations.upload(bucketName, objectName, inputStream, contentLength);
+            }
+        });
+    }
+
+    Boolean uploadTo(ObjectOperations objectOperations, String bucketName, String objectName) {
+        try {
+            return uploader.upload(objectOperations, bucketName, objectName);
+        } catch (IOException e) {
+            throw new ObjectOperationException("Failed to read upload source for object: " + objectName, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.exabyting.springosk.exception;
+
+/**
+ * Signals that a requested object does not exist, where an API cannot express absence with a null result.
+ */
+public class ObjectNotFoundException extends ObjectOperationException {
+    public ObjectNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,318 @@
+package com.exabyting.springosk.minio;
+
+import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.AsyncObjectOperations;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.support.Futures;
+import io.minio.*;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.Item;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnStorageType(value = "minio")
+@RequiredArgsConstructor
+@Slf4j
+public class MinIOAsyncObjectOperations implements AsyncObjectOperations {
+
+    private final MinioAsyncClient minioAsyncClient;
+    private final ObjectStorageExecutor objectStorageExecutor;
+
+    @Override
+    public CompletableFuture<Boolean> upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull byte[] data) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Uploading object '{}' to MinIO bucket '{}' asynchronously", objectName, bucketName);
+
+            return minioAsyncClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(new ByteArrayInputStream(data), data.length, -1)
+                            .build()
+            ).handle((response, error) -> {
+                if (error != null) {
+                    throw failure("Failed to upload object to MinIO: " + objectName, bucketName, objectName, error);
+                }
+                log.info("Successfully uploaded object '{}' to MinIO bucket '{}'", objectName, bucketName);
+                return true;
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to upload object to MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> uploadFrom(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateFile(file);
+
+            log.info("Uploading file '{}' as object '{}' to MinIO bucket '{}' asynchronously", file, objectName, bucketName);
+
+            return minioAsyncClient.uploadObject(
+                    UploadObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .filename(file.toString())
+                            .build()
+            ).handle((response, error) -> {
+                if (error != null) {
+                    throw failure("Failed to upload object to MinIO: " + objectName, bucketName, objectName, error);
+                }
+                log.info("Successfully uploaded file '{}' as object '{}' to MinIO bucket '{}'", file, objectName, bucketName);
+                return true;
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to upload object to MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' asynchronously", objectName, bucketName);
+
+            CompletableFuture<GetObjectResponse> response = minioAsyncClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+            return readBody(response, bucketName, objectName, "Failed to download object from MinIO: " + objectName);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to download object from MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadTo(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' to file '{}' asynchronously", objectName, bucketName, file);
+
+            Path target = file.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            // MinIO writes to a temporary part file and renames it onto the target when complete
+            return minioAsyncClient.downloadObject(
+                    DownloadObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .filename(target.toString())
+                            .overwrite(true)
+                            .build()
+            ).handle((ignored, error) -> {
+                if (error != null) {
+                    if (isNoSuchKey(error)) {
+                        log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                        return false;
+                    }
+                    throw failure("Failed to download object from MinIO: " + objectName, bucketName, objectName, error);
+                }
+                log.info("Successfully downloaded object '{}' from MinIO bucket '{}' to file '{}'", objectName, bucketName, file);
+                return true;
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to download object from MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(offset, length);
+
+            log.debug("Reading {} bytes at offset {} of object '{}' in MinIO bucket '{}' asynchronously", length, offset, objectName, bucketName);
+
+            if (length == 0) {
+                return CompletableFuture.completedFuture(new byte[0]);
+            }
+            CompletableFuture<GetObjectResponse> response = minioAsyncClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .offset(offset)
+                            .length(length)
+                            .build()
+            );
+            return readBody(response, bucketName, objectName, "Failed to read object range from MinIO: " + objectName);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to read object range from MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Long> getSize(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            return minioAsyncClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            ).handle((stat, error) -> {
+                if (error != null) {
+                    if (isNoSuchKey(error)) {
+                        log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                        return null;
+                    }
+                    throw failure("Failed to get object size from MinIO: " + objectName, bucketName, objectName, error);
+                }
+                return stat.size();
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to get object size from MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Deleting object '{}' from MinIO bucket '{}' asynchronously", objectName, bucketName);
+
+            return minioAsyncClient.removeObject(
+                    RemoveObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            ).handle((ignored, error) -> {
+                if (error != null) {
+                    throw failure("Failed to delete object from MinIO: " + objectName, bucketName, objectName, error);
+                }
+                log.info("Successfully deleted object '{}' from MinIO bucket '{}'", objectName, bucketName);
+                return true;
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure("Failed to delete object from MinIO: " + objectName, bucketName, objectName, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Collection<String>> list(@Nonnull String bucketName) {
+        try {
+            validateBucketName(bucketName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(failure("Failed to list objects in MinIO bucket: " + bucketName, bucketName, null, e));
+        }
+
+        log.info("Listing objects in MinIO bucket '{}' asynchronously", bucketName);
+
+        // The MinIO listing iterator fetches pages lazily and blocks while doing so, so it is drained off the caller's thread
+        return objectStorageExecutor.supplyAsync(() -> {
+            try {
+                Iterable<Result<Item>> results = minioAsyncClient.listObjects(
+                        ListObjectsArgs.builder()
+                                .bucket(bucketName)
+                                .recursive(true)
+                                .build()
+                );
+                List<String> objectNames = new ArrayList<>();
+                for (Result<Item> result : results) {
+                    Item item = result.get();
+                    if (!item.isDir()) {
+                        objectNames.add(item.objectName());
+                    }
+                }
+                log.info("Successfully listed {} objects in MinIO bucket '{}'", objectNames.size(), bucketName);
+                return objectNames;
+            } catch (Exception e) {
+                throw failure("Failed to list objects in MinIO bucket: " + bucketName, bucketName, null, e);
+            }
+        });
+    }
+
+    /**
+     * Drains a GET response body on the shared executor, since reading the body stream blocks.
+     */
+    private CompletableFuture<byte[]> readBody(CompletableFuture<GetObjectResponse> response,
+                                               String bucketName, String objectName, String failureMessage) {
+        return response.handleAsync((stream, error) -> {
+            if (error != null) {
+                if (isNoSuchKey(error)) {
+                    log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                    return null;
+                }
+                if (isInvalidRange(error)) {
+                    return new byte[0];
+                }
+                throw failure(failureMessage, bucketName, objectName, error);
+            }
+            try (InputStream inputStream = stream) {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw failure(failureMessage, bucketName, objectName, new UncheckedIOException(e));
+            }
+        }, objectStorageExecutor.executor());
+    }
+
+    private static ObjectOperationException failure(String message, String bucketName, String objectName, Throwable error) {
+        Throwable cause = Futures.unwrap(error);
+        if (cause instanceof ObjectOperationException objectOperationException) {
+            return objectOperationException;
+        }
+        log.error("Async MinIO operation on object '{}' in bucket '{}' failed: {}", objectName, bucketName, cause.getMessage(), cause);
+        return new ObjectOperationException(message, cause);
+    }
+
+    private static boolean isNoSuchKey(Throwable error) {
+        Throwable cause = Futures.unwrap(error);
+        if (cause instanceof ErrorResponseException errorResponseException
+                && "NoSuchKey".equals(errorResponseException.errorResponse().code())) {
+            return true;
+        }
+        return cause.getMessage() != null && cause.getMessage().contains("NoSuchKey");
+    }
+
+    private static boolean isInvalidRange(Throwable error) {
+        return Futures.unwrap(error) instanceof ErrorResponseException errorResponseException
+                && "InvalidRange".equals(errorResponseException.errorResponse().code());
+    }
+
+    private void validateRange(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Range offset and length cannot be negative");
+        }
+    }
+
+    private void validateFile(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File does not exist or is not a regular file: " + file);
+        }
+    }
+
+    private void validateParameters(String bucketName, String objectName) {
+        validateBucketName(bucketName);
+        if (objectName == null || objectName.isBlank()) {
+            throw new IllegalArgumentException("Object name cannot be null or empty");
+        }
+    }
+
+    private void validateBucketName(String bucketName) {
+        if (bucketName == null || bucketName.isBlank()) {
+            throw new IllegalArgumentException("Bucket name cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.exabyting.springosk.minio;
+
+import com.exabyting.springosk.core.BulkOperationResult;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes a batch of up to 1000 objects with a single multi-object delete request.
+ * Failures are reported per key instead of being thrown, so one bad batch does not stop a bulk delete.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MinIOBatchDelete {
+
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final MinioClient minioClient;
+
+    BulkOperationResult delete(String bucketName, List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return BulkOperationResult.empty();
+        }
+        try {
+            List<DeleteObject> objects = objectNames.stream()
+                    .map(DeleteObject::new)
+                    .collect(Collectors.toList());
+            // The result iterable sends the request when iterated and only yields the keys that could not be deleted
+            Iterable<Result<DeleteError>> errors = minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .objects(objects)
+                    .build());
+            Map<String, String> failures = new LinkedHashMap<>();
+            for (Result<DeleteError> result : errors) {
+                DeleteError error = result.get();
+                failures.put(error.objectName(), error.code() + ": " + error.message());
+            }
+            return new BulkOperationResult(objectNames.size() - failures.size(), failures);
+        } catch (Exception e) {
+            log.warn("Failed to delete a batch of {} objects from MinIO bucket '{}': {}", objectNames.size(), bucketName, e.getMessage());
+            Map<String, String> failures = new LinkedHashMap<>();
+            objectNames.forEach(objectName -> failures.put(objectName, e.getMessage()));
+            return new BulkOperationResult(0, failures);
+        }
+    }
+}
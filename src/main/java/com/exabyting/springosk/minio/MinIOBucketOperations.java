@@ -2,13 +2,18 @@ package com.exabyting.springosk.minio;
 
 import com.exabyting.springosk.annotation.ConditionalOnStorageType;
 import com.exabyting.springosk.core.BucketOperations;
+import com.exabyting.springosk.core.BucketUsage;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
 import com.exabyting.springosk.exception.BucketOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Batches;
+import com.exabyting.springosk.support.BulkPipeline;
 import io.minio.BucketExistsArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.RemoveBucketArgs;
-import io.minio.RemoveObjectArgs;
 import io.minio.Result;
 import io.minio.messages.Bucket;
 import io.minio.messages.Item;
@@ -18,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +34,8 @@ import java.util.stream.Collectors;
 public class MinIOBucketOperations implements BucketOperations {
 
     private final MinioClient minioClient;
+    private final ObjectStorageExecutor objectStorageExecutor;
+    private final OskProperties oskProperties;
 
     @Override
     public Boolean create(@Nonnull String bucketName) {
@@ -88,7 +96,10 @@ public class MinIOBucketOperations implements BucketOperations {
             }
 
             // First, delete all objects in the bucket
-            deleteAllObjectsInBucket(bucketName);
+            BulkOperationResult purged = purge(bucketName);
+            if (!purged.isSuccessful()) {
+                throw new BucketOperationException("Failed to delete " + purged.failureCount() + " objects in MinIO bucket: " + bucketName);
+            }
 
             // Then delete the bucket itself
             minioClient.removeBucket(
@@ -124,55 +135,85 @@ public class MinIOBucketOperations implements BucketOperations {
         }
     }
 
-    private void deleteAllObjectsInBucket(String bucketName) {
+    @Override
+    public BucketUsage getUsage(@Nonnull String bucketName, String prefix) {
         try {
             if(bucketName.isBlank()) {
                 throw new IllegalArgumentException("Bucket name cannot be null or empty");
             }
 
-            log.debug("Deleting all objects in bucket: {}", bucketName);
+            log.info("Computing usage of MinIO bucket '{}' with prefix '{}'", bucketName, prefix);
+
+            ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .recursive(true);
+            if (prefix != null) {
+                args.prefix(prefix);
+            }
+
+            // Sizes are taken from the listing pages, one page at a time
+            BucketUsage.Accumulator usage = new BucketUsage.Accumulator(prefix);
+            for (Result<Item> result : minioClient.listObjects(args.build())) {
+                Item item = result.get();
+                if (!item.isDir()) {
+                    usage.add(item.size());
+                }
+            }
 
-            // List all objects in the bucket
-            Iterable<Result<Item>> results = minioClient.listObjects(
+            BucketUsage bucketUsage = usage.toUsage();
+            log.info("MinIO bucket '{}' with prefix '{}' holds {} objects, {} bytes", bucketName, prefix, bucketUsage.objectCount(), bucketUsage.totalBytes());
+            return bucketUsage;
+        } catch (Exception e) {
+            log.error("Failed to compute usage of MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to compute usage of MinIO bucket", e);
+        }
+    }
+
+    @Override
+    public BulkOperationResult purge(@Nonnull String bucketName) {
+        try {
+            if(bucketName.isBlank()) {
+                throw new IllegalArgumentException("Bucket name cannot be null or empty");
+            }
+
+            log.info("Purging all objects in MinIO bucket: {}", bucketName);
+
+            Iterator<Result<Item>> results = minioClient.listObjects(
                     ListObjectsArgs.builder()
                             .bucket(bucketName)
                             .recursive(true)
                             .build()
-            );
-
-            int deletedCount = 0;
-            int failedCount = 0;
-            for (Result<Item> result : results) {
-                try {
-                    Item item = result.get();
-
-                    // Delete each object
-                    minioClient.removeObject(
-                            RemoveObjectArgs.builder()
-                                    .bucket(bucketName)
-                                    .object(item.objectName())
-                                    .build()
-                    );
-                    deletedCount++;
-                } catch (Exception e) {
-                    failedCount++;
-                    log.warn("Failed to delete object from bucket '{}': {}", bucketName, e.getMessage());
-                    // Continue with next object
+            ).iterator();
+            Iterator<String> objectNames = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return results.hasNext();
                 }
-            }
 
-            if (deletedCount > 0) {
-                log.debug("Successfully deleted {} objects from bucket: {}", deletedCount, bucketName);
-            } else {
-                log.debug("No objects found in bucket {} to delete", bucketName);
-            }
+                @Override
+                public String next() {
+                    try {
+                        return results.next().get().objectName();
+                    } catch (Exception e) {
+                        throw new BucketOperationException("Failed to list objects in MinIO bucket", e);
+                    }
+                }
+            };
+
+            // Each batch of listed keys is deleted while the next one is listed
+            MinIOBatchDelete batchDelete = new MinIOBatchDelete(minioClient);
+            BulkOperationResult result = BulkPipeline.run(
+                    Batches.of(objectNames, MinIOBatchDelete.MAX_KEYS_PER_REQUEST),
+                    oskProperties.getDeleteConcurrency(),
+                    objectStorageExecutor,
+                    batch -> batchDelete.delete(bucketName, batch)
+            );
 
-            if (failedCount > 0) {
-                log.warn("Failed to delete {} objects from bucket: {}", failedCount, bucketName);
-            }
+            log.info("Purged {} objects from MinIO bucket '{}', {} failed", result.successCount(), bucketName, result.failureCount());
+            return result;
         } catch (Exception e) {
-            log.error("Failed to delete objects in bucket '{}': {}", bucketName, e.getMessage());
-            throw new BucketOperationException("Failed to delete objects in MinIO bucket", e);
+            log.error("Failed to purge MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to purge MinIO bucket", e);
         }
     }
 }
@@ -0,0 +1,94 @@
+package com.exabyting.springosk.minio;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.CopySource;
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.messages.Part;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Exposes the multipart upload and part copy requests of the MinIO SDK, which only uses them internally
+ * for its own sequential part uploads and compose requests.
+ * Shares the connection pool and credentials of the wrapped client.
+ * Every request completes a future instead of blocking; failures to issue a request fail the future.
+ */
+class MinIOMultipartClient extends MinioAsyncClient {
+
+    private static final Multimap<String, String> CONTENT_TYPE_HEADER =
+            ImmutableMultimap.of("Content-Type", "application/octet-stream");
+
+    MinIOMultipartClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    CompletableFuture<ObjectWriteResponse> putObject(String bucketName, String objectName, byte[] data) {
+        return call(() -> putObject(
+                PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .stream(new ByteArrayInputStream(data), data.length, -1)
+                        .build()
+        ));
+    }
+
+    CompletableFuture<String> createMultipartUpload(String bucketName, String objectName) {
+        return createMultipartUpload(bucketName, objectName, CONTENT_TYPE_HEADER);
+    }
+
+    /**
+     * @param headers the headers and user metadata stored with the completed object
+     */
+    CompletableFuture<String> createMultipartUpload(String bucketName, String objectName, Multimap<String, String> headers) {
+        return call(() -> createMultipartUploadAsync(bucketName, null, objectName, headers, null))
+                .thenApply(response -> response.result().uploadId());
+    }
+
+    CompletableFuture<Part> uploadPart(String bucketName, String objectName, String uploadId, int partNumber, byte[] data) {
+        return call(() -> uploadPartAsync(bucketName, null, objectName, data, data.length, uploadId, partNumber, null, null))
+                .thenApply(response -> new Part(partNumber, response.etag()));
+    }
+
+    /**
+     * Copies a byte range of the source object server-side as one part, pinned to the source ETag.
+     *
+     * @param range the source range in the {@code bytes=first-last} form
+     */
+    CompletableFuture<Part> uploadPartCopy(String bucketName, String objectName, String uploadId, int partNumber,
+                                           String sourceBucketName, String sourceObjectName, String sourceETag, String range) {
+        return call(() -> {
+            Multimap<String, String> headers = HashMultimap.create(
+                    CopySource.builder()
+                            .bucket(sourceBucketName)
+                            .object(sourceObjectName)
+                            .matchETag(sourceETag)
+                            .build()
+                            .genCopyHeaders());
+            headers.put("x-amz-copy-source-range", range);
+            return uploadPartCopyAsync(bucketName, null, objectName, uploadId, partNumber, headers, null);
+        }).thenApply(response -> new Part(partNumber, response.result().etag()));
+    }
+
+    CompletableFuture<ObjectWriteResponse> completeMultipartUpload(String bucketName, String objectName, String uploadId, Part[] parts) {
+        return call(() -> completeMultipartUploadAsync(bucketName, null, objectName, uploadId, parts, null, null));
+    }
+
+    CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName, String uploadId) {
+        return call(() -> abortMultipartUploadAsync(bucketName, null, objectName, uploadId, null, null))
+                .thenApply(response -> null);
+    }
+
+    private static <T> CompletableFuture<T> call(Callable<CompletableFuture<T>> request) {
+        try {
+            return request.call();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
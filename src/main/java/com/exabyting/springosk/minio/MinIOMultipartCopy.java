@@ -0,0 +1,73 @@
+package com.exabyting.springosk.minio;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.support.ParallelPartCopy;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Copies an object too large for a single CopyObject request as a multipart upload whose parts
+ * are copied server-side with parallel UploadPartCopy requests.
+ * Every part is pinned to the source ETag, so a concurrent overwrite of the source fails the copy
+ * instead of mixing two versions. The upload is aborted if any part fails.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MinIOMultipartCopy {
+
+    private static final List<String> COPIED_HEADERS = List.of("Content-Encoding", "Content-Disposition", "Cache-Control");
+
+    private final MinIOMultipartClient client;
+    private final ObjectStorageExecutor executor;
+    private final long partSize;
+    private final int concurrency;
+
+    void copy(String sourceBucketName, String sourceObjectName, StatObjectResponse source,
+              String targetBucketName, String targetObjectName) {
+        // Unlike CopyObject, a multipart upload does not take over the source's headers and metadata by itself
+        String uploadId = client.createMultipartUpload(targetBucketName, targetObjectName, headersOf(source)).join();
+        log.debug("Started multipart copy '{}' of object '{}' to '{}' in MinIO bucket '{}' (part size: {} bytes, concurrency: {})",
+                uploadId, sourceObjectName, targetObjectName, targetBucketName, partSize, concurrency);
+
+        try {
+            List<Part> parts = ParallelPartCopy.copyParts(source.size(), partSize, concurrency, executor,
+                    range -> client.uploadPartCopy(targetBucketName, targetObjectName, uploadId, range.partNumber(),
+                            sourceBucketName, sourceObjectName, source.etag(), range.toHttpRange()).join());
+
+            client.completeMultipartUpload(targetBucketName, targetObjectName, uploadId, parts.toArray(new Part[0])).join();
+            log.debug("Completed multipart copy '{}' of object '{}' with {} parts", uploadId, sourceObjectName, parts.size());
+        } catch (RuntimeException e) {
+            abort(targetBucketName, targetObjectName, uploadId);
+            throw e;
+        }
+    }
+
+    private static Multimap<String, String> headersOf(StatObjectResponse source) {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("Content-Type", source.contentType() != null ? source.contentType() : "application/octet-stream");
+        for (String name : COPIED_HEADERS) {
+            String value = source.headers().get(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        source.userMetadata().forEach((key, value) -> headers.put("x-amz-meta-" + key, value));
+        return headers;
+    }
+
+    private void abort(String bucketName, String objectName, String uploadId) {
+        try {
+            client.abortMultipartUpload(bucketName, objectName, uploadId).join();
+            log.debug("Aborted multipart copy '{}' for object '{}' in MinIO bucket '{}'", uploadId, objectName, bucketName);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart copy '{}' for object '{}' in MinIO bucket '{}': {}",
+                    uploadId, objectName, bucketName, e.getMessage());
+        }
+    }
+}
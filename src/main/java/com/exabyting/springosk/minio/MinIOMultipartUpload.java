@@ -0,0 +1,52 @@
+package com.exabyting.springosk.minio;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import io.minio.messages.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Uploads a stream to MinIO as a multipart upload with parts sent in parallel.
+ * Parts stay invisible until the upload completes, and the upload is aborted if any part fails,
+ * so neither a partial object nor orphaned parts are left behind.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MinIOMultipartUpload {
+
+    private final MinIOMultipartClient client;
+    private final ObjectStorageExecutor executor;
+    private final int partSize;
+    private final int concurrency;
+
+    void upload(String bucketName, String objectName, InputStream inputStream, long contentLength) throws Exception {
+        String uploadId = client.createMultipartUpload(bucketName, objectName).join();
+        log.debug("Started multipart upload '{}' for object '{}' in MinIO bucket '{}' (part size: {} bytes, concurrency: {})",
+                uploadId, objectName, bucketName, partSize, concurrency);
+
+        try {
+            List<Part> parts = ParallelPartUpload.uploadParts(inputStream, contentLength, partSize, concurrency, executor,
+                    (partNumber, data) -> client.uploadPart(bucketName, objectName, uploadId, partNumber, data).join());
+
+            client.completeMultipartUpload(bucketName, objectName, uploadId, parts.toArray(new Part[0])).join();
+            log.debug("Completed multipart upload '{}' for object '{}' with {} parts", uploadId, objectName, parts.size());
+        } catch (Exception e) {
+            abort(bucketName, objectName, uploadId);
+            throw e;
+        }
+    }
+
+    private void abort(String bucketName, String objectName, String uploadId) {
+        try {
+            client.abortMultipartUpload(bucketName, objectName, uploadId).join();
+            log.debug("Aborted multipart upload '{}' for object '{}' in MinIO bucket '{}'", uploadId, objectName, bucketName);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload '{}' for object '{}' in MinIO bucket '{}': {}",
+                    uploadId, objectName, bucketName, e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,23 @@
 package com.exabyting.springosk.minio;
 
 import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectListRequest;
+import com.exabyting.springosk.core.ObjectListing;
 import com.exabyting.springosk.core.ObjectOperations;
+import com.exabyting.springosk.core.ObjectPage;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.core.ObjectStreamHandler;
+import com.exabyting.springosk.core.ObjectSummary;
 import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Batches;
+import com.exabyting.springosk.support.LazyStreams;
+import com.exabyting.springosk.support.ParallelPartCopy;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import com.exabyting.springosk.support.ParallelRangeDownload;
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
 import io.minio.messages.Item;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +26,19 @@ import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @ConditionalOnStorageType(value = "minio")
@@ -22,7 +46,12 @@ import java.util.List;
 @Slf4j
 public class MinIOObjectOperations implements ObjectOperations {
 
+    private static final int MAX_KEYS_PER_PAGE = 1000;
+
     private final MinioClient minioClient;
+    private final MinioAsyncClient minioAsyncClient;
+    private final OskProperties oskProperties;
+    private final ObjectStorageExecutor objectStorageExecutor;
 
     @Override
     public Boolean upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull byte[] data) {
@@ -32,13 +61,34 @@ public class MinIOObjectOperations implements ObjectOperations {
             log.info("Uploading object '{}' to MinIO bucket '{}'", objectName, bucketName);
 
             try (InputStream inputStream = new ByteArrayInputStream(data)) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)
-                                .object(objectName)
-                                .stream(inputStream, data.length, -1)
-                                .build()
-                );
+                if (data.length >= oskProperties.getMultipartThresholdBytes()) {
+                    multipartUpload(bucketName, objectName, inputStream, data.length);
+                } else {
+                    putObject(bucketName, objectName, inputStream, data.length);
+                }
+            }
+
+            log.info("Successfully uploaded object '{}' to MinIO bucket '{}'", objectName, bucketName);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to upload object '{}' to MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull InputStream inputStream, long contentLength) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Uploading object '{}' to MinIO bucket '{}' from stream (content length: {})", objectName, bucketName, contentLength);
+
+            if (contentLength >= oskProperties.getMultipartThresholdBytes()) {
+                multipartUpload(bucketName, objectName, inputStream, contentLength);
+            } else if (contentLength >= 0) {
+                putObject(bucketName, objectName, inputStream, contentLength);
+            } else {
+                putObjectOfUnknownLength(bucketName, objectName, inputStream);
             }
 
             log.info("Successfully uploaded object '{}' to MinIO bucket '{}'", objectName, bucketName);
@@ -67,16 +117,377 @@ public class MinIOObjectOperations implements ObjectOperations {
                 return data;
             }
         } catch (Exception e) {
-            // Check if object not found
-            if (e.getMessage() != null && e.getMessage().contains("NoSuchKey")) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to download object '{}' from MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Opening stream for object '{}' in MinIO bucket '{}'", objectName, bucketName);
+
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to open stream for object '{}' in MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public <T> T download(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull ObjectStreamHandler<T> handler) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Streaming object '{}' from MinIO bucket '{}'", objectName, bucketName);
+
+            // Closing the response releases the connection without draining unread content
+            try (InputStream stream = minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            )) {
+                T result = handler.handle(stream);
+                log.info("Successfully streamed object '{}' from MinIO bucket '{}'", objectName, bucketName);
+                return result;
+            }
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to download object '{}' from MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean uploadFrom(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateFile(file);
+
+            log.info("Uploading file '{}' as object '{}' to MinIO bucket '{}'", file, objectName, bucketName);
+
+            long fileSize = Files.size(file);
+            if (fileSize >= oskProperties.getMultipartThresholdBytes()) {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    multipartUpload(bucketName, objectName, inputStream, fileSize);
+                }
+            } else {
+                minioClient.uploadObject(
+                        UploadObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(objectName)
+                                .filename(file.toString())
+                                .build()
+                );
+            }
+
+            log.info("Successfully uploaded file '{}' as object '{}' to MinIO bucket '{}'", file, objectName, bucketName);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to upload file '{}' to MinIO bucket '{}': {}", file, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean downloadTo(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' to file '{}'", objectName, bucketName, file);
+
+            Path target = file.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            // MinIO writes to a temporary part file and renames it onto the target when complete
+            minioClient.downloadObject(
+                    DownloadObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .filename(target.toString())
+                            .overwrite(true)
+                            .build()
+            );
+
+            log.info("Successfully downloaded object '{}' from MinIO bucket '{}' to file '{}'", objectName, bucketName, file);
+            return true;
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return false;
+            }
+            log.error("Failed to download object '{}' from MinIO bucket '{}' to file '{}': {}", objectName, bucketName, file, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public byte[] downloadParallel(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' with parallel ranged requests", objectName, bucketName);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
                 log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
                 return null;
             }
+            byte[] data = download.toByteArray();
+
+            log.info("Successfully downloaded object '{}' from MinIO bucket '{}', size: {} bytes", objectName, bucketName, data.length);
+            return data;
+        } catch (Exception e) {
+            log.error("Failed to download object '{}' from MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean downloadParallel(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        Path partFile = null;
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' to file '{}' with parallel ranged requests", objectName, bucketName, file);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return false;
+            }
+            Path target = file.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            partFile = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+            download.toFile(partFile);
+            Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+
+            log.info("Successfully downloaded object '{}' from MinIO bucket '{}' to file '{}'", objectName, bucketName, file);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to download object '{}' from MinIO bucket '{}' to file '{}': {}", objectName, bucketName, file, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
+        } finally {
+            if (partFile != null) {
+                try {
+                    Files.deleteIfExists(partFile);
+                } catch (Exception e) {
+                    log.warn("Failed to delete temporary download file '{}': {}", partFile, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Boolean downloadParallel(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull OutputStream outputStream) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from MinIO bucket '{}' to stream with parallel ranged requests", objectName, bucketName);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return false;
+            }
+            download.toStream(outputStream);
+
+            log.info("Successfully downloaded object '{}' from MinIO bucket '{}' to stream", objectName, bucketName);
+            return true;
+        } catch (Exception e) {
             log.error("Failed to download object '{}' from MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
             throw new ObjectOperationException("Failed to download object from MinIO: " + objectName, e);
         }
     }
 
+    @Override
+    public byte[] read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length) {
+        return read(bucketName, objectName, offset, length, null);
+    }
+
+    @Override
+    public byte[] read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length, String eTag) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(offset, length);
+
+            log.debug("Reading {} bytes at offset {} of object '{}' in MinIO bucket '{}'", length, offset, objectName, bucketName);
+
+            if (length == 0) {
+                return new byte[0];
+            }
+            return getRange(bucketName, objectName, eTag, offset, length);
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            if (isInvalidRange(e)) {
+                return new byte[0];
+            }
+            if (isPreconditionFailed(e)) {
+                log.warn("Object '{}' in MinIO bucket '{}' no longer has ETag {}", objectName, bucketName, eTag);
+                throw new ObjectOperationException("Object changed since its ETag was read: " + objectName, e);
+            }
+            log.error("Failed to read range of object '{}' in MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public byte[] readSuffix(@Nonnull String bucketName, @Nonnull String objectName, long length) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(0, length);
+
+            log.debug("Reading last {} bytes of object '{}' in MinIO bucket '{}'", length, objectName, bucketName);
+
+            if (length == 0) {
+                return new byte[0];
+            }
+            // GetObjectArgs only models offset/length ranges, so the suffix range is sent as a raw header
+            try (InputStream stream = minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .extraHeaders(Map.of("Range", "bytes=-" + length))
+                            .build()
+            )) {
+                return stream.readAllBytes();
+            }
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            if (isInvalidRange(e)) {
+                return new byte[0];
+            }
+            log.error("Failed to read suffix of object '{}' in MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Long getSize(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+            return stat.size();
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to get size of object '{}' in MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object size from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public ObjectSummary getSummary(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+            return new ObjectSummary(
+                    objectName,
+                    stat.size(),
+                    stat.etag(),
+                    stat.lastModified() != null ? stat.lastModified().toInstant() : null,
+                    stat.headers().get("x-amz-storage-class"));
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                log.warn("Object '{}' not found in MinIO bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to get metadata of object '{}' in MinIO bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object metadata from MinIO: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean copy(@Nonnull String sourceBucketName, @Nonnull String sourceObjectName,
+                        @Nonnull String targetBucketName, @Nonnull String targetObjectName) {
+        try {
+            validateParameters(sourceBucketName, sourceObjectName);
+            validateParameters(targetBucketName, targetObjectName);
+
+            log.info("Copying object '{}' from MinIO bucket '{}' to '{}' in bucket '{}'",
+                    sourceObjectName, sourceBucketName, targetObjectName, targetBucketName);
+
+            StatObjectResponse source;
+            try {
+                source = minioClient.statObject(
+                        StatObjectArgs.builder()
+                                .bucket(sourceBucketName)
+                                .object(sourceObjectName)
+                                .build()
+                );
+            } catch (Exception e) {
+                if (isNoSuchKey(e)) {
+                    log.warn("Object '{}' not found in MinIO bucket '{}'", sourceObjectName, sourceBucketName);
+                    return false;
+                }
+                throw e;
+            }
+
+            if (source.size() > ParallelPartCopy.MAX_SINGLE_COPY_SIZE) {
+                long partSize = ParallelPartCopy.partSize(oskProperties.getMultipartCopyPartSizeBytes(), source.size());
+                log.debug("Using multipart copy for object '{}' in MinIO bucket '{}'", sourceObjectName, sourceBucketName);
+                new MinIOMultipartCopy(new MinIOMultipartClient(minioAsyncClient), objectStorageExecutor, partSize, oskProperties.getMultipartConcurrency())
+                        .copy(sourceBucketName, sourceObjectName, source, targetBucketName, targetObjectName);
+            } else {
+                minioClient.copyObject(
+                        CopyObjectArgs.builder()
+                                .bucket(targetBucketName)
+                                .object(targetObjectName)
+                                .source(CopySource.builder()
+                                        .bucket(sourceBucketName)
+                                        .object(sourceObjectName)
+                                        .matchETag(source.etag())
+                                        .build())
+                                .build()
+                );
+            }
+
+            log.info("Successfully copied object '{}' to '{}' in MinIO bucket '{}'", sourceObjectName, targetObjectName, targetBucketName);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to copy object '{}' from MinIO bucket '{}': {}", sourceObjectName, sourceBucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to copy object in MinIO: " + sourceObjectName, e);
+        }
+    }
+
     @Override
     public Boolean delete(@Nonnull String bucketName, @Nonnull String objectName) {
         try {
@@ -99,33 +510,307 @@ public class MinIOObjectOperations implements ObjectOperations {
         }
     }
 
+    @Override
+    public BulkOperationResult deleteAll(@Nonnull String bucketName, @Nonnull Collection<String> objectNames) {
+        try {
+            validateBucketName(bucketName);
+            if (objectNames == null) {
+                throw new IllegalArgumentException("Object names cannot be null");
+            }
+            List<String> distinctNames = objectNames.stream().distinct().collect(Collectors.toList());
+            distinctNames.forEach(objectName -> validateParameters(bucketName, objectName));
+
+            log.info("Deleting {} objects from MinIO bucket '{}'", distinctNames.size(), bucketName);
+
+            MinIOBatchDelete batchDelete = new MinIOBatchDelete(minioClient);
+            List<BulkOperationResult> batchResults = objectStorageExecutor.mapAll(
+                    Batches.partition(distinctNames, MinIOBatchDelete.MAX_KEYS_PER_REQUEST),
+                    oskProperties.getDeleteConcurrency(),
+                    batch -> batchDelete.delete(bucketName, batch)
+            ).join();
+            BulkOperationResult result = batchResults.stream()
+                    .reduce(BulkOperationResult.empty(), BulkOperationResult::merge);
+
+            log.info("Deleted {} objects from MinIO bucket '{}', {} failed", result.successCount(), bucketName, result.failureCount());
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to delete objects from MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to delete objects from MinIO bucket: " + bucketName, e);
+        }
+    }
+
     @Override
     public Collection<String> list(@Nonnull String bucketName) {
+        try (Stream<String> objectNames = stream(bucketName)) {
+            List<String> result = objectNames.collect(Collectors.toList());
+
+            log.info("Successfully listed {} objects in MinIO bucket '{}'", result.size(), bucketName);
+            return result;
+        } catch (ObjectOperationException e) {
+            log.error("Failed to list objects in MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Stream<String> stream(@Nonnull String bucketName) {
+        return stream(bucketName, ObjectListRequest.all()).map(ObjectSummary::key);
+    }
+
+    @Override
+    public Stream<ObjectSummary> stream(@Nonnull String bucketName, @Nonnull ObjectListRequest request) {
         try {
             validateBucketName(bucketName);
+            validateListRequest(request);
 
-            log.info("Listing objects in MinIO bucket '{}'", bucketName);
+            log.info("Listing objects in MinIO bucket '{}' with prefix '{}'", bucketName, request.getPrefix());
 
-            Iterable<Result<Item>> results = minioClient.listObjects(
-                    ListObjectsArgs.builder()
-                            .bucket(bucketName)
-                            .build()
-            );
+            // The MinIO result iterator requests the next page when the previous one is consumed, unless reading ahead
+            Iterable<Result<Item>> results = minioClient.listObjects(buildListArgs(bucketName, request));
+            String errorMessage = "Failed to list objects in MinIO bucket: " + bucketName;
+            Stream<ObjectSummary> objects = LazyStreams.prefetching(results.iterator(),
+                            listPageSize(request), request.getPrefetchPages(), objectStorageExecutor, errorMessage)
+                    .map(result -> {
+                        try {
+                            return result.get();
+                        } catch (Exception e) {
+                            throw new ObjectOperationException(errorMessage, e);
+                        }
+                    })
+                    .filter(item -> !item.isDir())
+                    .map(MinIOObjectOperations::toObjectSummary);
+            return request.getMaxKeys() != null ? objects.limit(request.getMaxKeys()) : objects;
+        } catch (Exception e) {
+            log.error("Failed to list objects in MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to list objects in MinIO bucket: " + bucketName, e);
+        }
+    }
+
+    @Override
+    public ObjectListing list(@Nonnull String bucketName, @Nonnull ObjectListRequest request) {
+        try {
+            validateBucketName(bucketName);
+            validateListRequest(request);
 
-            List<String> objectNames = new ArrayList<>();
-            for (Result<Item> result : results) {
+            log.info("Listing objects in MinIO bucket '{}' with prefix '{}' (recursive: {})", bucketName, request.getPrefix(), request.isRecursive());
+
+            int limit = request.getMaxKeys() != null ? request.getMaxKeys() : Integer.MAX_VALUE;
+            List<ObjectSummary> objects = new ArrayList<>();
+            List<String> commonPrefixes = new ArrayList<>();
+            for (Result<Item> result : minioClient.listObjects(buildListArgs(bucketName, request))) {
+                if (objects.size() + commonPrefixes.size() >= limit) {
+                    break;
+                }
                 Item item = result.get();
-                objectNames.add(item.objectName());
+                if (item.isDir()) {
+                    commonPrefixes.add(item.objectName());
+                } else {
+                    objects.add(toObjectSummary(item));
+                }
             }
 
-            log.info("Successfully listed {} objects in MinIO bucket '{}'", objectNames.size(), bucketName);
-            return objectNames;
+            log.info("Successfully listed {} objects and {} common prefixes in MinIO bucket '{}'", objects.size(), commonPrefixes.size(), bucketName);
+            return new ObjectListing(objects, commonPrefixes);
         } catch (Exception e) {
             log.error("Failed to list objects in MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
             throw new ObjectOperationException("Failed to list objects in MinIO bucket: " + bucketName, e);
         }
     }
 
+    @Override
+    public ObjectPage listPage(@Nonnull String bucketName, String prefix, int pageSize, String cursor) {
+        try {
+            validateBucketName(bucketName);
+            validatePageSize(pageSize);
+
+            log.info("Listing a page of {} objects in MinIO bucket '{}' with prefix '{}'", pageSize, bucketName, prefix);
+
+            // The cursor is the last key of the previous page, used as the start-after marker
+            ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .recursive(true)
+                    .maxKeys(pageSize);
+            if (prefix != null) {
+                args.prefix(prefix);
+            }
+            if (cursor != null) {
+                args.startAfter(cursor);
+            }
+            List<ObjectSummary> objects = new ArrayList<>(pageSize);
+            Iterator<Result<Item>> results = minioClient.listObjects(args.build()).iterator();
+            while (objects.size() < pageSize && results.hasNext()) {
+                objects.add(toObjectSummary(results.next().get()));
+            }
+            // A full page may be followed by an empty one; probing for more keys would cost a second request
+            String nextCursor = objects.size() == pageSize ? objects.get(objects.size() - 1).key() : null;
+
+            log.info("Successfully listed a page of {} objects in MinIO bucket '{}'", objects.size(), bucketName);
+            return new ObjectPage(objects, nextCursor);
+        } catch (Exception e) {
+            log.error("Failed to list objects in MinIO bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to list objects in MinIO bucket: " + bucketName, e);
+        }
+    }
+
+    private static ListObjectsArgs buildListArgs(String bucketName, ObjectListRequest request) {
+        int pageSize = listPageSize(request);
+        ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .recursive(request.isRecursive())
+                .maxKeys(pageSize);
+        if (request.getPrefix() != null) {
+            args.prefix(request.getPrefix());
+        }
+        if (!request.isRecursive()) {
+            args.delimiter(request.effectiveDelimiter());
+        }
+        if (request.getStartAfter() != null) {
+            args.startAfter(request.getStartAfter());
+        }
+        return args.build();
+    }
+
+    private static int listPageSize(ObjectListRequest request) {
+        return request.getMaxKeys() != null ? Math.min(request.getMaxKeys(), MAX_KEYS_PER_PAGE) : MAX_KEYS_PER_PAGE;
+    }
+
+    private static ObjectSummary toObjectSummary(Item item) {
+        return new ObjectSummary(
+                item.objectName(),
+                item.size(),
+                item.etag(),
+                item.lastModified() != null ? item.lastModified().toInstant() : null,
+                item.storageClass());
+    }
+
+    private void putObject(String bucketName, String objectName, InputStream inputStream, long contentLength) throws Exception {
+        minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .stream(inputStream, contentLength, -1)
+                        .build()
+        );
+    }
+
+    /**
+     * Streams of unknown length are read into a bounded buffer first. Streams that fit are sent
+     * in a single request; larger ones continue as a parallel multipart upload.
+     */
+    private void putObjectOfUnknownLength(String bucketName, String objectName, InputStream inputStream) throws Exception {
+        int bufferSize = oskProperties.getUploadBufferSizeBytes();
+        byte[] buffer = inputStream.readNBytes(bufferSize);
+        if (buffer.length < bufferSize) {
+            putObject(bucketName, objectName, new ByteArrayInputStream(buffer), buffer.length);
+            return;
+        }
+
+        InputStream remaining = new SequenceInputStream(new ByteArrayInputStream(buffer), inputStream);
+        multipartUpload(bucketName, objectName, remaining, UNKNOWN_CONTENT_LENGTH);
+    }
+
+    private void multipartUpload(String bucketName, String objectName, InputStream inputStream, long contentLength) throws Exception {
+        int partSize = ParallelPartUpload.partSize(oskProperties.getMultipartPartSizeBytes(), contentLength);
+        log.debug("Using parallel part upload for object '{}' in MinIO bucket '{}'", objectName, bucketName);
+        new MinIOMultipartUpload(new MinIOMultipartClient(minioAsyncClient), objectStorageExecutor, partSize, oskProperties.getMultipartConcurrency())
+                .upload(bucketName, objectName, inputStream, contentLength);
+    }
+
+    /**
+     * Looks up the object size and ETag, then prepares chunked ranged reads pinned to that ETag
+     * so that a concurrent overwrite fails the download instead of mixing two versions.
+     *
+     * @return the prepared download, or null if the object does not exist
+     */
+    private ParallelRangeDownload prepareParallelDownload(String bucketName, String objectName) throws Exception {
+        StatObjectResponse stat;
+        try {
+            stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            if (isNoSuchKey(e)) {
+                return null;
+            }
+            throw e;
+        }
+
+        String eTag = stat.etag();
+        return new ParallelRangeDownload(objectStorageExecutor,
+                (offset, length) -> getRange(bucketName, objectName, eTag, offset, length),
+                stat.size(),
+                oskProperties.getDownloadChunkSizeBytes(),
+                oskProperties.getDownloadConcurrency());
+    }
+
+    /**
+     * Fetches a byte range of the object, optionally pinned to an ETag.
+     */
+    private byte[] getRange(String bucketName, String objectName, String eTag, long offset, long length) throws Exception {
+        GetObjectArgs.Builder builder = GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectName)
+                .offset(offset)
+                .length(length);
+        if (eTag != null) {
+            builder.matchETag(eTag);
+        }
+        try (InputStream stream = minioClient.getObject(builder.build())) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static boolean isNoSuchKey(Exception e) {
+        if (e instanceof ErrorResponseException errorResponseException
+                && "NoSuchKey".equals(errorResponseException.errorResponse().code())) {
+            return true;
+        }
+        return e.getMessage() != null && e.getMessage().contains("NoSuchKey");
+    }
+
+    private static boolean isInvalidRange(Exception e) {
+        return e instanceof ErrorResponseException errorResponseException
+                && "InvalidRange".equals(errorResponseException.errorResponse().code());
+    }
+
+    private static boolean isPreconditionFailed(Exception e) {
+        return e instanceof ErrorResponseException errorResponseException
+                && "PreconditionFailed".equals(errorResponseException.errorResponse().code());
+    }
+
+    private void validateListRequest(ObjectListRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("List request cannot be null");
+        }
+        if (request.getMaxKeys() != null && request.getMaxKeys() <= 0) {
+            throw new IllegalArgumentException("Max keys must be positive");
+        }
+        if (request.getPrefetchPages() < 0) {
+            throw new IllegalArgumentException("Prefetch pages cannot be negative");
+        }
+    }
+
+    private void validatePageSize(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_KEYS_PER_PAGE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_KEYS_PER_PAGE);
+        }
+    }
+
+    private void validateRange(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Range offset and length cannot be negative");
+        }
+    }
+
+    private void validateFile(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File does not exist or is not a regular file: " + file);
+        }
+    }
+
     private void validateParameters(String bucketName, String objectName) {
         validateBucketName(bucketName);
         if (objectName == null || objectName.isBlank()) {
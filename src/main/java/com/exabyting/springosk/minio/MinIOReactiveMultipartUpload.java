@@ -0,0 +1,83 @@
+package com.exabyting.springosk.minio;
+
+import io.minio.ObjectWriteResponse;
+import io.minio.messages.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Uploads a reactive stream of parts to MinIO as a multipart upload, with up to {@code concurrency} parts in flight.
+ * Streams that fit in a single part are sent as a plain PUT. The upload is aborted if any part fails.
+ * Every request is issued on the MinIO async client, so no thread blocks while parts are in flight.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class MinIOReactiveMultipartUpload {
+
+    private final MinIOMultipartClient client;
+    private final int partSize;
+    private final int concurrency;
+
+    /**
+     * @param parts chunks of exactly {@code partSize} bytes, except for the last one
+     */
+    Mono<Void> upload(String bucketName, String objectName, Flux<byte[]> parts) {
+        return parts
+                .switchOnFirst((first, all) -> {
+                    if (first.isOnError()) {
+                        return all;
+                    }
+                    byte[] firstPart = first.get();
+                    if (firstPart == null) {
+                        return putObject(bucketName, objectName, new byte[0]).flux();
+                    }
+                    if (firstPart.length < partSize) {
+                        // A short first part is also the last one
+                        return all.concatMap(part -> putObject(bucketName, objectName, part));
+                    }
+                    return multipartUpload(bucketName, objectName, all).flux();
+                })
+                .then();
+    }
+
+    private Mono<byte[]> putObject(String bucketName, String objectName, byte[] data) {
+        return Mono.fromFuture(() -> client.putObject(bucketName, objectName, data))
+                .thenReturn(data);
+    }
+
+    private Mono<byte[]> multipartUpload(String bucketName, String objectName, Flux<byte[]> parts) {
+        return Mono.fromFuture(() -> client.createMultipartUpload(bucketName, objectName))
+                .flatMap(uploadId -> {
+                    log.debug("Started reactive multipart upload '{}' for object '{}' in MinIO bucket '{}' (part size: {} bytes, concurrency: {})",
+                            uploadId, objectName, bucketName, partSize, concurrency);
+                    return parts.index()
+                            .flatMapSequential(indexed -> Mono.fromFuture(() -> client.uploadPart(bucketName, objectName, uploadId,
+                                    Math.toIntExact(indexed.getT1() + 1), indexed.getT2())), concurrency, 1)
+                            .collectList()
+                            .flatMap(completedParts -> complete(bucketName, objectName, uploadId, completedParts))
+                            .onErrorResume(error -> abort(bucketName, objectName, uploadId).then(Mono.error(error)));
+                })
+                .thenReturn(new byte[0]);
+    }
+
+    private Mono<ObjectWriteResponse> complete(String bucketName, String objectName, String uploadId, List<Part> parts) {
+        return Mono.fromFuture(() -> client.completeMultipartUpload(bucketName, objectName, uploadId, parts.toArray(new Part[0])))
+                .doOnSuccess(response -> log.debug("Completed reactive multipart upload '{}' for object '{}' with {} parts",
+                        uploadId, objectName, parts.size()));
+    }
+
+    private Mono<Void> abort(String bucketName, String objectName, String uploadId) {
+        return Mono.fromFuture(() -> client.abortMultipartUpload(bucketName, objectName, uploadId))
+                .doOnSuccess(response -> log.debug("Aborted multipart upload '{}' for object '{}' in MinIO bucket '{}'",
+                        uploadId, objectName, bucketName))
+                .onErrorResume(e -> {
+                    log.warn("Failed to abort multipart upload '{}' for object '{}' in MinIO bucket '{}': {}",
+                            uploadId, objectName, bucketName, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,99 @@
+package com.exabyting.springosk.minio;
+
+import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.ObjectOperations;
+import com.exabyting.springosk.core.ReactiveObjectOperations;
+import com.exabyting.springosk.exception.ObjectNotFoundException;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Futures;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import com.exabyting.springosk.support.ReactiveChunks;
+import io.minio.MinioAsyncClient;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reactive streaming operations for MinIO.
+ * Uploads are regrouped into parts and sent on the MinIO async client as a multipart upload, or as a single
+ * PUT when they fit in one part, so no thread blocks while an upload is in flight.
+ * Downloads cannot be made non-blocking: the MinIO SDK only exposes response bodies as blocking streams.
+ * Each download is therefore bridged with backpressure from a stream read on Reactor's bounded elastic
+ * scheduler, which holds one of its threads while the body is read but never blocks the subscribing thread
+ * and never buffers the object in full.
+ */
+@Component
+@ConditionalOnStorageType(value = "minio")
+@RequiredArgsConstructor
+@Slf4j
+public class MinIOReactiveObjectOperations implements ReactiveObjectOperations {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectOperations objectOperations;
+    private final MinioAsyncClient minioAsyncClient;
+    private final OskProperties oskProperties;
+
+    @Override
+    public Mono<Boolean> upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Publisher<ByteBuffer> content, long contentLength) {
+        return Mono.defer(() -> {
+                    validateParameters(bucketName, objectName);
+
+                    log.info("Uploading object '{}' to MinIO bucket '{}' reactively", objectName, bucketName);
+
+                    int partSize = ParallelPartUpload.partSize(oskProperties.getMultipartPartSizeBytes(), contentLength);
+                    return new MinIOReactiveMultipartUpload(new MinIOMultipartClient(minioAsyncClient), partSize, oskProperties.getMultipartConcurrency())
+                            .upload(bucketName, objectName, ReactiveChunks.rechunk(ReactiveChunks.limit(Flux.from(content), contentLength), partSize));
+                })
+                .doOnSuccess(ignored -> log.info("Successfully uploaded object '{}' to MinIO bucket '{}'", objectName, bucketName))
+                .thenReturn(true)
+                .onErrorMap(error -> !(error instanceof ObjectOperationException), error -> {
+                    log.error("Failed to upload object '{}' to MinIO bucket '{}': {}", objectName, bucketName, error.getMessage(), error);
+                    return new ObjectOperationException("Failed to upload object to MinIO: " + objectName, Futures.unwrap(error));
+                });
+    }
+
+    @Override
+    public Flux<ByteBuffer> download(@Nonnull String bucketName, @Nonnull String objectName) {
+        return DataBufferUtils.readInputStream(() -> {
+                    InputStream stream = objectOperations.openStream(bucketName, objectName);
+                    if (stream == null) {
+                        throw new ObjectNotFoundException("Object not found in MinIO: " + objectName);
+                    }
+                    return stream;
+                }, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(dataBuffer -> {
+                    try {
+                        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        return ByteBuffer.wrap(bytes);
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
+                    }
+                })
+                .onErrorMap(error -> !(error instanceof ObjectOperationException),
+                        error -> new ObjectOperationException("Failed to download object from MinIO: " + objectName, error));
+    }
+
+    private void validateParameters(String bucketName, String objectName) {
+        if (StringUtils.isBlank(bucketName)) {
+            throw new IllegalArgumentException("Bucket name cannot be null or empty");
+        }
+        if (StringUtils.isBlank(objectName)) {
+            throw new IllegalArgumentException("Object name cannot be null or empty");
+        }
+    }
+}
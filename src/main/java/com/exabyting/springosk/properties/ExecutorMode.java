@@ -0,0 +1,6 @@
+package com.exabyting.springosk.properties;
+
+public enum ExecutorMode {
+    platform,
+    virtual,
+}
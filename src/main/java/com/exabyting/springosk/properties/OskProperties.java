@@ -38,6 +38,48 @@ public class OskProperties {
     private Integer connectionTimeoutMillis = 10000;
     private Integer socketTimeoutMillis = 50000;
 
+    // Streaming upload settings
+    private Integer uploadBufferSizeBytes = 8 * 1024 * 1024;
+
+    // Multipart upload settings
+    private Long multipartThresholdBytes = 64L * 1024 * 1024;
+    private Integer multipartPartSizeBytes = 8 * 1024 * 1024;
+    private Integer multipartConcurrency = 4;
+    private Long multipartCopyPartSizeBytes = 512L * 1024 * 1024;
+
+    // Parallel download settings
+    private Integer downloadChunkSizeBytes = 8 * 1024 * 1024;
+    private Integer downloadConcurrency = 4;
+
+    // Seekable channel settings
+    private Integer channelBlockSizeBytes = 1024 * 1024;
+    private Long channelCacheMaxBytes = 16L * 1024 * 1024;
+
+    // Async client settings
+    @ValidEnum(enumClass = ClientImplementation.class)
+    private ClientImplementation clientImplementation = ClientImplementation.standard;
+    private Integer asyncMaxConcurrency = 100;
+    private Integer asyncMaxPendingConnectionAcquires = 10000;
+
+    // Netty transport settings (S3 async client, client-implementation: standard)
+    private Integer nettyEventLoopThreads; // Optional: defaults to the SDK's choice based on available processors
+    private Integer nettyReadTimeoutMillis; // Optional: defaults to socketTimeoutMillis
+    private Integer nettyWriteTimeoutMillis; // Optional: defaults to socketTimeoutMillis
+    private Boolean nettyTcpNoDelay = true;
+
+    // CRT client settings (S3 only, client-implementation: crt)
+    private Double crtTargetThroughputGbps = 10.0;
+    private Long crtMinimumPartSizeBytes = 8L * 1024 * 1024;
+
+    // Background executor settings
+    @ValidEnum(enumClass = ExecutorMode.class)
+    private ExecutorMode executorMode = ExecutorMode.platform;
+    private Integer executorMaxThreads = 64;
+
+    // Bulk operation settings
+    private Integer deleteConcurrency = 4;
+    private Integer bulkConcurrency = 16;
+
     // Transfer acceleration (S3 only)
     private Boolean accelerateModeEnabled = false;
     private Boolean dualStackEnabled = false;
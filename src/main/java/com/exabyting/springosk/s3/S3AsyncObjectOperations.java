@@ -0,0 +1,321 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.AsyncObjectOperations;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.support.Futures;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnStorageType
+public class S3AsyncObjectOperations implements AsyncObjectOperations {
+
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+
+    @Override
+    public CompletableFuture<Boolean> upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull byte[] data) {
+        try {
+            validateParameters(bucketName, objectName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to upload object to S3: " + objectName, e));
+        }
+
+        log.info("Uploading object '{}' to S3 bucket '{}' asynchronously", objectName, bucketName);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(data))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw failure("Failed to upload object to S3: " + objectName, bucketName, objectName, error);
+                    }
+                    log.info("Successfully uploaded object '{}' to S3 bucket '{}'", objectName, bucketName);
+                    return true;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> uploadFrom(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateFile(file);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to upload object to S3: " + objectName, e));
+        }
+
+        log.info("Uploading file '{}' as object '{}' to S3 bucket '{}' asynchronously", file, objectName, bucketName);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw failure("Failed to upload object to S3: " + objectName, bucketName, objectName, error);
+                    }
+                    log.info("Successfully uploaded file '{}' as object '{}' to S3 bucket '{}'", file, objectName, bucketName);
+                    return true;
+                });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> download(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to download object from S3: " + objectName, e));
+        }
+
+        log.info("Downloading object '{}' from S3 bucket '{}' asynchronously", objectName, bucketName);
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        if (isNotFound(error)) {
+                            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                            return null;
+                        }
+                        throw failure("Failed to download object from S3: " + objectName, bucketName, objectName, error);
+                    }
+                    byte[] data = response.asByteArray();
+                    log.info("Successfully downloaded object '{}' from S3 bucket '{}', size: {} bytes", objectName, bucketName, data.length);
+                    return data;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> downloadTo(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        Path target;
+        Path partFile;
+        try {
+            validateParameters(bucketName, objectName);
+            target = file.toAbsolutePath();
+            partFile = createPartFilePath(target);
+        } catch (IllegalArgumentException | IOException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to download object from S3: " + objectName, e));
+        }
+
+        log.info("Downloading object '{}' from S3 bucket '{}' to file '{}' asynchronously", objectName, bucketName, file);
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.getObject(getObjectRequest,
+                        AsyncResponseTransformer.toFile(partFile, FileTransformerConfiguration.defaultCreateOrReplaceExisting()))
+                .handle((response, error) -> {
+                    try {
+                        if (error != null) {
+                            if (isNotFound(error)) {
+                                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                                return false;
+                            }
+                            throw failure("Failed to download object from S3: " + objectName, bucketName, objectName, error);
+                        }
+                        Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+                        log.info("Successfully downloaded object '{}' from S3 bucket '{}' to file '{}'", objectName, bucketName, file);
+                        return true;
+                    } catch (IOException e) {
+                        throw failure("Failed to write object data from S3 to file: " + file, bucketName, objectName, e);
+                    } finally {
+                        deletePartFile(partFile);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(offset, length);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to read object range from S3: " + objectName, e));
+        }
+
+        log.debug("Reading {} bytes at offset {} of object '{}' in S3 bucket '{}' asynchronously", length, offset, objectName, bucketName);
+
+        if (length == 0) {
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        return s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        if (isNotFound(error)) {
+                            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                            return null;
+                        }
+                        if (Futures.unwrap(error) instanceof S3Exception s3Exception
+                                && s3Exception.statusCode() == HTTP_RANGE_NOT_SATISFIABLE) {
+                            return new byte[0];
+                        }
+                        throw failure("Failed to read object range from S3: " + objectName, bucketName, objectName, error);
+                    }
+                    return response.asByteArray();
+                });
+    }
+
+    @Override
+    public CompletableFuture<Long> getSize(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to get object size from S3: " + objectName, e));
+        }
+
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.headObject(headObjectRequest)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        if (isNotFound(error)) {
+                            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                            return null;
+                        }
+                        throw failure("Failed to get object size from S3: " + objectName, bucketName, objectName, error);
+                    }
+                    return response.contentLength();
+                });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to delete object from S3: " + objectName, e));
+        }
+
+        log.info("Deleting object '{}' from S3 bucket '{}' asynchronously", objectName, bucketName);
+
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return s3AsyncClient.deleteObject(deleteObjectRequest)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw failure("Failed to delete object from S3: " + objectName, bucketName, objectName, error);
+                    }
+                    log.info("Successfully deleted object '{}' from S3 bucket '{}'", objectName, bucketName);
+                    return true;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Collection<String>> list(@Nonnull String bucketName) {
+        try {
+            validateBucketName(bucketName);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ObjectOperationException("Failed to list objects in S3 bucket: " + bucketName, e));
+        }
+
+        log.info("Listing objects in S3 bucket '{}' asynchronously", bucketName);
+
+        ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .build();
+        List<String> objectNames = Collections.synchronizedList(new ArrayList<>());
+        return s3AsyncClient.listObjectsV2Paginator(listObjectsRequest)
+                .contents()
+                .subscribe(s3Object -> objectNames.add(s3Object.key()))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        throw failure("Failed to list objects in S3 bucket: " + bucketName, bucketName, null, error);
+                    }
+                    log.info("Found {} objects in S3 bucket '{}'", objectNames.size(), bucketName);
+                    return objectNames;
+                });
+    }
+
+    private static ObjectOperationException failure(String message, String bucketName, String objectName, Throwable error) {
+        Throwable cause = Futures.unwrap(error);
+        if (cause instanceof ObjectOperationException objectOperationException) {
+            return objectOperationException;
+        }
+        log.error("Async S3 operation on object '{}' in bucket '{}' failed: {}", objectName, bucketName, cause.getMessage(), cause);
+        return new ObjectOperationException(message, cause);
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        Throwable cause = Futures.unwrap(error);
+        return cause instanceof NoSuchKeyException
+                || (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == HTTP_NOT_FOUND);
+    }
+
+    private static Path createPartFilePath(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+    }
+
+    private static void deletePartFile(Path partFile) {
+        try {
+            Files.deleteIfExists(partFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary download file '{}': {}", partFile, e.getMessage());
+        }
+    }
+
+    private void validateRange(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Range offset and length cannot be negative");
+        }
+    }
+
+    private void validateFile(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File does not exist or is not a regular file: " + file);
+        }
+    }
+
+    private void validateParameters(String bucketName, String objectName) {
+        validateBucketName(bucketName);
+        if (StringUtils.isBlank(objectName)) {
+            throw new IllegalArgumentException("Object name cannot be null or empty");
+        }
+    }
+
+    private void validateBucketName(String bucketName) {
+        if (StringUtils.isBlank(bucketName)) {
+            throw new IllegalArgumentException("Bucket name cannot be null or empty");
+        }
+    }
+}
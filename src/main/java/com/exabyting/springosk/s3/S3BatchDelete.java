@@ -0,0 +1,49 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.core.BulkOperationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes a batch of up to 1000 objects with a single {@code DeleteObjects} request.
+ * Failures are reported per key instead of being thrown, so one bad batch does not stop a bulk delete.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class S3BatchDelete {
+
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3Client s3Client;
+
+    BulkOperationResult delete(String bucketName, List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return BulkOperationResult.empty();
+        }
+        try {
+            List<ObjectIdentifier> identifiers = objectNames.stream()
+                    .map(objectName -> ObjectIdentifier.builder().key(objectName).build())
+                    .collect(Collectors.toList());
+            // Quiet mode only reports the keys that could not be deleted
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                    .build());
+            Map<String, String> failures = new LinkedHashMap<>();
+            response.errors().forEach(error -> failures.put(error.key(), error.code() + ": " + error.message()));
+            return new BulkOperationResult(objectNames.size() - failures.size(), failures);
+        } catch (Exception e) {
+            log.warn("Failed to delete a batch of {} objects from S3 bucket '{}': {}", objectNames.size(), bucketName, e.getMessage());
+            Map<String, String> failures = new LinkedHashMap<>();
+            objectNames.forEach(objectName -> failures.put(objectName, e.getMessage()));
+            return new BulkOperationResult(0, failures);
+        }
+    }
+}
@@ -2,7 +2,12 @@ package com.exabyting.springosk.s3;
 
 import com.exabyting.springosk.annotation.ConditionalOnStorageType;
 import com.exabyting.springosk.core.BucketOperations;
+import com.exabyting.springosk.core.BucketUsage;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
 import com.exabyting.springosk.exception.BucketOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.BulkPipeline;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,9 +17,10 @@ import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,6 +30,8 @@ import java.util.stream.Collectors;
 public class S3BucketOperations implements BucketOperations {
 
     private final S3Client s3Client;
+    private final ObjectStorageExecutor objectStorageExecutor;
+    private final OskProperties oskProperties;
 
     @Override
     public Boolean create(@Nonnull String bucketName) {
@@ -51,7 +59,10 @@ public class S3BucketOperations implements BucketOperations {
             validateBucketName(bucketName);
             log.info("Deleting S3 bucket: {}", bucketName);
             // First, delete all objects in the bucket
-            deleteAllObjectsInBucket(bucketName);
+            BulkOperationResult purged = purge(bucketName);
+            if (!purged.isSuccessful()) {
+                throw new BucketOperationException("Failed to delete " + purged.failureCount() + " objects in S3 bucket: " + bucketName);
+            }
 
             // Then delete the bucket itself
             DeleteBucketRequest deleteBucketRequest = DeleteBucketRequest.builder()
@@ -91,46 +102,83 @@ public class S3BucketOperations implements BucketOperations {
         }
     }
 
-    private void deleteAllObjectsInBucket(@Nonnull String bucketName) {
+    @Override
+    public BucketUsage getUsage(@Nonnull String bucketName, String prefix) {
         try {
             validateBucketName(bucketName);
-            log.debug("Deleting all objects in bucket: {}", bucketName);
+            log.info("Computing usage of S3 bucket '{}' with prefix '{}'", bucketName, prefix);
 
+            BucketUsage.Accumulator usage = new BucketUsage.Accumulator(prefix);
             ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
                     .bucket(bucketName)
+                    .prefix(prefix)
                     .build();
+            // Sizes are taken from the listing pages, one page at a time
+            s3Client.listObjectsV2Paginator(listObjectsV2Request).contents()
+                    .forEach(s3Object -> usage.add(s3Object.size()));
 
-            ListObjectsV2Response listObjectsV2Response;
-            List<ObjectIdentifier> objectsToDelete = new ArrayList<>();
+            BucketUsage result = usage.toUsage();
+            log.info("S3 bucket '{}' with prefix '{}' holds {} objects, {} bytes", bucketName, prefix, result.objectCount(), result.totalBytes());
+            return result;
+        } catch (S3Exception e) {
+            log.error("Failed to compute usage of S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to compute usage of S3 bucket: " + bucketName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while computing usage of S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to compute usage of S3 bucket: " + bucketName, e);
+        }
+    }
 
-            do {
-                listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request);
-                for (S3Object s3Object : listObjectsV2Response.contents()) {
-                    objectsToDelete.add(ObjectIdentifier.builder().key(s3Object.key()).build());
-                }
-                String nextToken = listObjectsV2Response.nextContinuationToken();
-                listObjectsV2Request = listObjectsV2Request.toBuilder()
-                        .continuationToken(nextToken)
-                        .build();
-            } while (listObjectsV2Response.isTruncated());
-
-            if (!objectsToDelete.isEmpty()) {
-                DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                        .bucket(bucketName)
-                        .delete(Delete.builder().objects(objectsToDelete).build())
-                        .build();
-                s3Client.deleteObjects(deleteObjectsRequest);
-                log.debug("Successfully deleted {} objects from bucket: {}", objectsToDelete.size(), bucketName);
-            } else {
-                log.debug("No objects found in bucket {} to delete", bucketName);
-            }
+    @Override
+    public BulkOperationResult purge(@Nonnull String bucketName) {
+        try {
+            validateBucketName(bucketName);
+            log.info("Purging all objects in S3 bucket: {}", bucketName);
+
+            // Each listing page is deleted as one batch while the next page is listed
+            S3BatchDelete batchDelete = new S3BatchDelete(s3Client);
+            BulkOperationResult result = BulkPipeline.run(listKeyPages(bucketName), oskProperties.getDeleteConcurrency(),
+                    objectStorageExecutor, batch -> batchDelete.delete(bucketName, batch));
+
+            log.info("Purged {} objects from S3 bucket '{}', {} failed", result.successCount(), bucketName, result.failureCount());
+            return result;
         } catch (S3Exception e) {
-            log.warn("Failed to delete objects in bucket '{}': {}", bucketName, e.getMessage());
+            log.error("Failed to purge S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to purge S3 bucket: " + bucketName, e);
         } catch (Exception e) {
-            log.warn("Unexpected error while deleting objects in bucket '{}': {}", bucketName, e.getMessage());
+            log.error("Unexpected error while purging S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new BucketOperationException("Failed to purge S3 bucket: " + bucketName, e);
         }
     }
 
+    private Iterator<List<String>> listKeyPages(String bucketName) {
+        return new Iterator<>() {
+            private String continuationToken;
+            private boolean truncated = true;
+
+            @Override
+            public boolean hasNext() {
+                return truncated;
+            }
+
+            @Override
+            public List<String> next() {
+                if (!truncated) {
+                    throw new NoSuchElementException();
+                }
+                ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .continuationToken(continuationToken)
+                        .build());
+                continuationToken = response.nextContinuationToken();
+                truncated = Boolean.TRUE.equals(response.isTruncated());
+                return response.contents().stream()
+                        .map(S3Object::key)
+                        .collect(Collectors.toList());
+            }
+        };
+    }
+
     private static void validateBucketName(@NotNull String bucketName) {
         if (StringUtils.isEmpty(bucketName)) {
             log.warn("Bucket name cannot be null or empty");
@@ -0,0 +1,94 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.support.ParallelPartCopy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.List;
+
+/**
+ * Copies an object too large for a single CopyObject request as a multipart upload whose parts
+ * are copied server-side with parallel UploadPartCopy requests.
+ * Every part is pinned to the source ETag, so a concurrent overwrite of the source fails the copy
+ * instead of mixing two versions. The upload is aborted if any part fails.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class S3MultipartCopy {
+
+    private final S3Client s3Client;
+    private final ObjectStorageExecutor executor;
+    private final long partSize;
+    private final int concurrency;
+
+    void copy(String sourceBucketName, String sourceObjectName, HeadObjectResponse source,
+              String targetBucketName, String targetObjectName) {
+        // Unlike CopyObject, a multipart upload does not take over the source's headers and metadata by itself
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(targetBucketName)
+                .key(targetObjectName)
+                .contentType(source.contentType())
+                .contentEncoding(source.contentEncoding())
+                .contentDisposition(source.contentDisposition())
+                .cacheControl(source.cacheControl())
+                .metadata(source.metadata())
+                .build();
+        String uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+        log.debug("Started multipart copy '{}' of object '{}' to '{}' in S3 bucket '{}' (part size: {} bytes, concurrency: {})",
+                uploadId, sourceObjectName, targetObjectName, targetBucketName, partSize, concurrency);
+
+        try {
+            List<CompletedPart> parts = ParallelPartCopy.copyParts(source.contentLength(), partSize, concurrency, executor,
+                    range -> copyPart(sourceBucketName, sourceObjectName, source.eTag(), targetBucketName, targetObjectName, uploadId, range));
+
+            CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                    .bucket(targetBucketName)
+                    .key(targetObjectName)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build();
+            s3Client.completeMultipartUpload(completeRequest);
+            log.debug("Completed multipart copy '{}' of object '{}' with {} parts", uploadId, sourceObjectName, parts.size());
+        } catch (RuntimeException e) {
+            abort(targetBucketName, targetObjectName, uploadId);
+            throw e;
+        }
+    }
+
+    private CompletedPart copyPart(String sourceBucketName, String sourceObjectName, String sourceETag,
+                                   String targetBucketName, String targetObjectName, String uploadId,
+                                   ParallelPartCopy.PartRange range) {
+        UploadPartCopyRequest uploadPartCopyRequest = UploadPartCopyRequest.builder()
+                .sourceBucket(sourceBucketName)
+                .sourceKey(sourceObjectName)
+                .copySourceIfMatch(sourceETag)
+                .copySourceRange(range.toHttpRange())
+                .destinationBucket(targetBucketName)
+                .destinationKey(targetObjectName)
+                .uploadId(uploadId)
+                .partNumber(range.partNumber())
+                .build();
+        UploadPartCopyResponse response = s3Client.uploadPartCopy(uploadPartCopyRequest);
+        return CompletedPart.builder()
+                .partNumber(range.partNumber())
+                .eTag(response.copyPartResult().eTag())
+                .build();
+    }
+
+    private void abort(String bucketName, String objectName, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .uploadId(uploadId)
+                    .build());
+            log.debug("Aborted multipart copy '{}' for object '{}' in S3 bucket '{}'", uploadId, objectName, bucketName);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart copy '{}' for object '{}' in S3 bucket '{}': {}",
+                    uploadId, objectName, bucketName, e.getMessage());
+        }
+    }
+}
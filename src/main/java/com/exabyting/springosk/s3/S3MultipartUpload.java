@@ -0,0 +1,83 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Uploads a stream to S3 as a multipart upload with parts sent in parallel.
+ * The upload is aborted if any part fails, so no orphaned parts are left behind.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class S3MultipartUpload {
+
+    private final S3Client s3Client;
+    private final ObjectStorageExecutor executor;
+    private final int partSize;
+    private final int concurrency;
+
+    void upload(String bucketName, String objectName, InputStream inputStream, long contentLength) throws IOException {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        String uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+        log.debug("Started multipart upload '{}' for object '{}' in S3 bucket '{}' (part size: {} bytes, concurrency: {})",
+                uploadId, objectName, bucketName, partSize, concurrency);
+
+        try {
+            List<CompletedPart> parts = ParallelPartUpload.uploadParts(inputStream, contentLength, partSize, concurrency, executor,
+                    (partNumber, data) -> uploadPart(bucketName, objectName, uploadId, partNumber, data));
+
+            CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build();
+            s3Client.completeMultipartUpload(completeRequest);
+            log.debug("Completed multipart upload '{}' for object '{}' with {} parts", uploadId, objectName, parts.size());
+        } catch (IOException | RuntimeException e) {
+            abort(bucketName, objectName, uploadId);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String bucketName, String objectName, String uploadId, int partNumber, byte[] data) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) data.length)
+                .build();
+        UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, RequestBody.fromBytes(data));
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    private void abort(String bucketName, String objectName, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .uploadId(uploadId)
+                    .build());
+            log.debug("Aborted multipart upload '{}' for object '{}' in S3 bucket '{}'", uploadId, objectName, bucketName);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload '{}' for object '{}' in S3 bucket '{}': {}",
+                    uploadId, objectName, bucketName, e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.exabyting.springosk.s3;
 
 import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectListRequest;
+import com.exabyting.springosk.core.ObjectListing;
 import com.exabyting.springosk.core.ObjectOperations;
+import com.exabyting.springosk.core.ObjectPage;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.core.ObjectStreamHandler;
+import com.exabyting.springosk.core.ObjectSummary;
 import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Batches;
+import com.exabyting.springosk.support.LazyStreams;
+import com.exabyting.springosk.support.ParallelPartCopy;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import com.exabyting.springosk.support.ParallelRangeDownload;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,13 +23,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @Slf4j
@@ -24,7 +48,13 @@ import java.util.stream.Collectors;
 @ConditionalOnStorageType
 public class S3ObjectOperations implements ObjectOperations {
 
+    private static final int HTTP_PRECONDITION_FAILED = 412;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final int MAX_KEYS_PER_PAGE = 1000;
+
     private final S3Client s3Client;
+    private final OskProperties oskProperties;
+    private final ObjectStorageExecutor objectStorageExecutor;
 
     @Override
     public Boolean upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull byte[] data) {
@@ -38,7 +68,42 @@ public class S3ObjectOperations implements ObjectOperations {
                     .key(objectName)
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+            if (data.length >= oskProperties.getMultipartThresholdBytes()) {
+                multipartUpload(bucketName, objectName, new ByteArrayInputStream(data), data.length);
+            } else {
+                s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+            }
+
+            log.info("Successfully uploaded object '{}' to S3 bucket '{}'", objectName, bucketName);
+            return true;
+        } catch (S3Exception e) {
+            log.error("Failed to upload object '{}' to S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while uploading object '{}' to S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull InputStream inputStream, long contentLength) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Uploading object '{}' to S3 bucket '{}' from stream (content length: {})", objectName, bucketName, contentLength);
+
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build();
+
+            if (contentLength >= oskProperties.getMultipartThresholdBytes()) {
+                multipartUpload(bucketName, objectName, inputStream, contentLength);
+            } else if (contentLength >= 0) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+            } else {
+                putObjectOfUnknownLength(putObjectRequest, inputStream);
+            }
 
             log.info("Successfully uploaded object '{}' to S3 bucket '{}'", objectName, bucketName);
             return true;
@@ -83,6 +148,395 @@ public class S3ObjectOperations implements ObjectOperations {
         }
     }
 
+    @Override
+    public InputStream openStream(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Opening stream for object '{}' in S3 bucket '{}'", objectName, bucketName);
+
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build();
+
+            return s3Client.getObject(getObjectRequest);
+        } catch (NoSuchKeyException e) {
+            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+            return null;
+        } catch (S3Exception e) {
+            log.error("Failed to open stream for object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while opening stream for object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public <T> T download(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull ObjectStreamHandler<T> handler) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Streaming object '{}' from S3 bucket '{}'", objectName, bucketName);
+
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build();
+
+            ResponseInputStream<GetObjectResponse> response = s3Client.getObject(getObjectRequest);
+            try {
+                T result = handler.handle(response);
+                abortUnlessFullyRead(response);
+                log.info("Successfully streamed object '{}' from S3 bucket '{}'", objectName, bucketName);
+                return result;
+            } catch (IOException | RuntimeException e) {
+                response.abort();
+                throw e;
+            } finally {
+                response.close();
+            }
+        } catch (NoSuchKeyException e) {
+            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+            return null;
+        } catch (S3Exception e) {
+            log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (IOException e) {
+            log.error("Failed to read object data '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object data from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while downloading object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean uploadFrom(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateFile(file);
+
+            log.info("Uploading file '{}' as object '{}' to S3 bucket '{}'", file, objectName, bucketName);
+
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build();
+
+            long fileSize = Files.size(file);
+            if (fileSize >= oskProperties.getMultipartThresholdBytes()) {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    multipartUpload(bucketName, objectName, inputStream, fileSize);
+                }
+            } else {
+                s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
+            }
+
+            log.info("Successfully uploaded file '{}' as object '{}' to S3 bucket '{}'", file, objectName, bucketName);
+            return true;
+        } catch (S3Exception e) {
+            log.error("Failed to upload file '{}' to S3 bucket '{}': {}", file, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while uploading file '{}' to S3 bucket '{}': {}", file, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to upload object to S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean downloadTo(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        Path partFile = null;
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from S3 bucket '{}' to file '{}'", objectName, bucketName, file);
+
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build();
+
+            // ResponseTransformer.toFile refuses existing files, so download next to the target and move it in place
+            Path target = file.toAbsolutePath();
+            partFile = createPartFilePath(target);
+            s3Client.getObject(getObjectRequest, ResponseTransformer.toFile(partFile));
+            Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+
+            log.info("Successfully downloaded object '{}' from S3 bucket '{}' to file '{}'", objectName, bucketName, file);
+            return true;
+        } catch (NoSuchKeyException e) {
+            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+            return false;
+        } catch (S3Exception e) {
+            log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (IOException e) {
+            log.error("Failed to write object '{}' to file '{}': {}", objectName, file, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to write object data from S3 to file: " + file, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while downloading object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } finally {
+            deletePartFile(partFile);
+        }
+    }
+
+    @Override
+    public byte[] downloadParallel(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from S3 bucket '{}' with parallel ranged requests", objectName, bucketName);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
+                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            byte[] data = download.toByteArray();
+
+            log.info("Successfully downloaded object '{}' from S3 bucket '{}', size: {} bytes", objectName, bucketName, data.length);
+            return data;
+        } catch (S3Exception e) {
+            log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while downloading object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean downloadParallel(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Path file) {
+        Path partFile = null;
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from S3 bucket '{}' to file '{}' with parallel ranged requests", objectName, bucketName, file);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
+                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                return false;
+            }
+            Path target = file.toAbsolutePath();
+            partFile = createPartFilePath(target);
+            download.toFile(partFile);
+            Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+
+            log.info("Successfully downloaded object '{}' from S3 bucket '{}' to file '{}'", objectName, bucketName, file);
+            return true;
+        } catch (S3Exception e) {
+            log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (IOException e) {
+            log.error("Failed to write object '{}' to file '{}': {}", objectName, file, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to write object data from S3 to file: " + file, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while downloading object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } finally {
+            deletePartFile(partFile);
+        }
+    }
+
+    @Override
+    public Boolean downloadParallel(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull OutputStream outputStream) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            log.info("Downloading object '{}' from S3 bucket '{}' to stream with parallel ranged requests", objectName, bucketName);
+
+            ParallelRangeDownload download = prepareParallelDownload(bucketName, objectName);
+            if (download == null) {
+                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                return false;
+            }
+            download.toStream(outputStream);
+
+            log.info("Successfully downloaded object '{}' from S3 bucket '{}' to stream", objectName, bucketName);
+            return true;
+        } catch (S3Exception e) {
+            log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        } catch (IOException e) {
+            log.error("Failed to write object data '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to write object data from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while downloading object '{}' from S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to download object from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public byte[] read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length) {
+        return read(bucketName, objectName, offset, length, null);
+    }
+
+    @Override
+    public byte[] read(@Nonnull String bucketName, @Nonnull String objectName, long offset, long length, String eTag) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(offset, length);
+
+            log.debug("Reading {} bytes at offset {} of object '{}' in S3 bucket '{}'", length, offset, objectName, bucketName);
+
+            if (length == 0) {
+                return new byte[0];
+            }
+            return getRange(bucketName, objectName, eTag, offset, length);
+        } catch (NoSuchKeyException e) {
+            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == HTTP_RANGE_NOT_SATISFIABLE) {
+                return new byte[0];
+            }
+            if (e.statusCode() == HTTP_PRECONDITION_FAILED) {
+                log.warn("Object '{}' in S3 bucket '{}' no longer has ETag {}", objectName, bucketName, eTag);
+                throw new ObjectOperationException("Object changed since its ETag was read: " + objectName, e);
+            }
+            log.error("Failed to read range of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while reading range of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public byte[] readSuffix(@Nonnull String bucketName, @Nonnull String objectName, long length) {
+        try {
+            validateParameters(bucketName, objectName);
+            validateRange(0, length);
+
+            log.debug("Reading last {} bytes of object '{}' in S3 bucket '{}'", length, objectName, bucketName);
+
+            if (length == 0) {
+                return new byte[0];
+            }
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .range("bytes=-" + length)
+                    .build();
+            return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+        } catch (NoSuchKeyException e) {
+            log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == HTTP_RANGE_NOT_SATISFIABLE) {
+                // Suffix ranges on empty objects cannot be satisfied
+                return new byte[0];
+            }
+            log.error("Failed to read suffix of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while reading suffix of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to read object range from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Long getSize(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build());
+            return head.contentLength();
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to get size of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object size from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while getting size of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object size from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public ObjectSummary getSummary(@Nonnull String bucketName, @Nonnull String objectName) {
+        try {
+            validateParameters(bucketName, objectName);
+
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build());
+            return new ObjectSummary(objectName, head.contentLength(), head.eTag(), head.lastModified(), head.storageClassAsString());
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                return null;
+            }
+            log.error("Failed to get metadata of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object metadata from S3: " + objectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while getting metadata of object '{}' in S3 bucket '{}': {}", objectName, bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to get object metadata from S3: " + objectName, e);
+        }
+    }
+
+    @Override
+    public Boolean copy(@Nonnull String sourceBucketName, @Nonnull String sourceObjectName,
+                        @Nonnull String targetBucketName, @Nonnull String targetObjectName) {
+        try {
+            validateParameters(sourceBucketName, sourceObjectName);
+            validateParameters(targetBucketName, targetObjectName);
+
+            log.info("Copying object '{}' from S3 bucket '{}' to '{}' in bucket '{}'",
+                    sourceObjectName, sourceBucketName, targetObjectName, targetBucketName);
+
+            HeadObjectResponse source;
+            try {
+                source = s3Client.headObject(HeadObjectRequest.builder()
+                        .bucket(sourceBucketName)
+                        .key(sourceObjectName)
+                        .build());
+            } catch (S3Exception e) {
+                if (isNotFound(e)) {
+                    log.warn("Object '{}' not found in S3 bucket '{}'", sourceObjectName, sourceBucketName);
+                    return false;
+                }
+                throw e;
+            }
+
+            if (source.contentLength() > ParallelPartCopy.MAX_SINGLE_COPY_SIZE) {
+                long partSize = ParallelPartCopy.partSize(oskProperties.getMultipartCopyPartSizeBytes(), source.contentLength());
+                log.debug("Using multipart copy for object '{}' in S3 bucket '{}'", sourceObjectName, sourceBucketName);
+                new S3MultipartCopy(s3Client, objectStorageExecutor, partSize, oskProperties.getMultipartConcurrency())
+                        .copy(sourceBucketName, sourceObjectName, source, targetBucketName, targetObjectName);
+            } else {
+                CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                        .sourceBucket(sourceBucketName)
+                        .sourceKey(sourceObjectName)
+                        .copySourceIfMatch(source.eTag())
+                        .destinationBucket(targetBucketName)
+                        .destinationKey(targetObjectName)
+                        .build();
+
+                s3Client.copyObject(copyObjectRequest);
+            }
+
+            log.info("Successfully copied object '{}' to '{}' in S3 bucket '{}'", sourceObjectName, targetObjectName, targetBucketName);
+            return true;
+        } catch (S3Exception e) {
+            log.error("Failed to copy object '{}' from S3 bucket '{}': {}", sourceObjectName, sourceBucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to copy object in S3: " + sourceObjectName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while copying object '{}' from S3 bucket '{}': {}", sourceObjectName, sourceBucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to copy object in S3: " + sourceObjectName, e);
+        }
+    }
+
     @Override
     public Boolean delete(@Nonnull String bucketName, @Nonnull String objectName) {
         try {
@@ -108,25 +562,130 @@ public class S3ObjectOperations implements ObjectOperations {
         }
     }
 
+    @Override
+    public BulkOperationResult deleteAll(@Nonnull String bucketName, @Nonnull Collection<String> objectNames) {
+        try {
+            validateBucketName(bucketName);
+            if (objectNames == null) {
+                throw new IllegalArgumentException("Object names cannot be null");
+            }
+            List<String> distinctNames = objectNames.stream().distinct().collect(Collectors.toList());
+            distinctNames.forEach(objectName -> validateParameters(bucketName, objectName));
+
+            log.info("Deleting {} objects from S3 bucket '{}'", distinctNames.size(), bucketName);
+
+            S3BatchDelete batchDelete = new S3BatchDelete(s3Client);
+            List<BulkOperationResult> batchResults = objectStorageExecutor.mapAll(
+                    Batches.partition(distinctNames, S3BatchDelete.MAX_KEYS_PER_REQUEST),
+                    oskProperties.getDeleteConcurrency(),
+                    batch -> batchDelete.delete(bucketName, batch)
+            ).join();
+            BulkOperationResult result = batchResults.stream()
+                    .reduce(BulkOperationResult.empty(), BulkOperationResult::merge);
+
+            log.info("Deleted {} objects from S3 bucket '{}', {} failed", result.successCount(), bucketName, result.failureCount());
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to delete objects from S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to delete objects from S3 bucket: " + bucketName, e);
+        }
+    }
+
     @Override
     public Collection<String> list(@Nonnull String bucketName) {
+        try (Stream<String> objectNames = stream(bucketName)) {
+            List<String> result = objectNames.collect(Collectors.toList());
+
+            log.info("Successfully listed {} objects in S3 bucket '{}'", result.size(), bucketName);
+            return result;
+        } catch (ObjectOperationException e) {
+            log.error("Failed to list objects in S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Stream<String> stream(@Nonnull String bucketName) {
+        return stream(bucketName, ObjectListRequest.all()).map(ObjectSummary::key);
+    }
+
+    @Override
+    public Stream<ObjectSummary> stream(@Nonnull String bucketName, @Nonnull ObjectListRequest request) {
         try {
             validateBucketName(bucketName);
+            validateListRequest(request);
 
-            log.info("Listing objects in S3 bucket '{}'", bucketName);
+            log.info("Listing objects in S3 bucket '{}' with prefix '{}'", bucketName, request.getPrefix());
 
-            ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .build();
+            // The paginator requests the next page when the previous one is consumed, unless reading ahead
+            Stream<ObjectSummary> objects = LazyStreams.prefetching(
+                            s3Client.listObjectsV2Paginator(buildListRequest(bucketName, request)).contents().iterator(),
+                            listPageSize(request), request.getPrefetchPages(), objectStorageExecutor,
+                            "Failed to list objects in S3 bucket: " + bucketName)
+                    .map(S3ObjectOperations::toObjectSummary);
+            return request.getMaxKeys() != null ? objects.limit(request.getMaxKeys()) : objects;
+        } catch (Exception e) {
+            log.error("Unexpected error while listing objects in S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to list objects in S3 bucket: " + bucketName, e);
+        }
+    }
+
+    @Override
+    public ObjectListing list(@Nonnull String bucketName, @Nonnull ObjectListRequest request) {
+        try {
+            validateBucketName(bucketName);
+            validateListRequest(request);
 
-            ListObjectsV2Response response = s3Client.listObjectsV2(listObjectsRequest);
+            log.info("Listing objects in S3 bucket '{}' with prefix '{}' (recursive: {})", bucketName, request.getPrefix(), request.isRecursive());
 
-            List<String> objectNames = response.contents().stream()
-                    .map(S3Object::key)
+            int limit = request.getMaxKeys() != null ? request.getMaxKeys() : Integer.MAX_VALUE;
+            List<ObjectSummary> objects = new ArrayList<>();
+            List<String> commonPrefixes = new ArrayList<>();
+            for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(buildListRequest(bucketName, request))) {
+                page.contents().stream()
+                        .limit(limit - objects.size() - commonPrefixes.size())
+                        .forEach(s3Object -> objects.add(toObjectSummary(s3Object)));
+                page.commonPrefixes().stream()
+                        .limit(limit - objects.size() - commonPrefixes.size())
+                        .forEach(commonPrefix -> commonPrefixes.add(commonPrefix.prefix()));
+                if (objects.size() + commonPrefixes.size() >= limit) {
+                    break;
+                }
+            }
+
+            log.info("Successfully listed {} objects and {} common prefixes in S3 bucket '{}'", objects.size(), commonPrefixes.size(), bucketName);
+            return new ObjectListing(objects, commonPrefixes);
+        } catch (S3Exception e) {
+            log.error("Failed to list objects in S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to list objects in S3 bucket: " + bucketName, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while listing objects in S3 bucket '{}': {}", bucketName, e.getMessage(), e);
+            throw new ObjectOperationException("Failed to list objects in S3 bucket: " + bucketName, e);
+        }
+    }
+
+    @Override
+    public ObjectPage listPage(@Nonnull String bucketName, String prefix, int pageSize, String cursor) {
+        try {
+            validateBucketName(bucketName);
+            validatePageSize(pageSize);
+
+            log.info("Listing a page of {} objects in S3 bucket '{}' with prefix '{}'", pageSize, bucketName, prefix);
+
+            // The cursor is the continuation token of the previous response
+            ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(cursor)
+                    .maxKeys(pageSize)
+                    .build());
+            List<ObjectSummary> objects = response.contents().stream()
+                    .map(S3ObjectOperations::toObjectSummary)
                     .collect(Collectors.toList());
+            String nextCursor = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
 
-            log.info("Successfully listed {} objects in S3 bucket '{}'", objectNames.size(), bucketName);
-            return objectNames;
+            log.info("Successfully listed a page of {} objects in S3 bucket '{}'", objects.size(), bucketName);
+            return new ObjectPage(objects, nextCursor);
         } catch (S3Exception e) {
             log.error("Failed to list objects in S3 bucket '{}': {}", bucketName, e.getMessage(), e);
             throw new ObjectOperationException("Failed to list objects in S3 bucket: " + bucketName, e);
@@ -136,6 +695,160 @@ public class S3ObjectOperations implements ObjectOperations {
         }
     }
 
+    private static ListObjectsV2Request buildListRequest(String bucketName, ObjectListRequest request) {
+        int pageSize = listPageSize(request);
+        return ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(request.getPrefix())
+                .delimiter(request.effectiveDelimiter())
+                .startAfter(request.getStartAfter())
+                .maxKeys(pageSize)
+                .build();
+    }
+
+    private static int listPageSize(ObjectListRequest request) {
+        return request.getMaxKeys() != null ? Math.min(request.getMaxKeys(), MAX_KEYS_PER_PAGE) : MAX_KEYS_PER_PAGE;
+    }
+
+    private static ObjectSummary toObjectSummary(S3Object s3Object) {
+        return new ObjectSummary(
+                s3Object.key(),
+                s3Object.size() != null ? s3Object.size() : 0L,
+                s3Object.eTag(),
+                s3Object.lastModified(),
+                s3Object.storageClassAsString());
+    }
+
+    /**
+     * S3 needs the content length up front, so a stream of unknown length is read into a bounded
+     * buffer first. Streams that fit are sent from memory; larger ones continue as a multipart upload.
+     */
+    private void putObjectOfUnknownLength(PutObjectRequest putObjectRequest, InputStream inputStream) throws IOException {
+        int bufferSize = oskProperties.getUploadBufferSizeBytes();
+        byte[] buffer = inputStream.readNBytes(bufferSize);
+        if (buffer.length < bufferSize) {
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(buffer));
+            return;
+        }
+
+        InputStream remaining = new SequenceInputStream(new ByteArrayInputStream(buffer), inputStream);
+        multipartUpload(putObjectRequest.bucket(), putObjectRequest.key(), remaining, UNKNOWN_CONTENT_LENGTH);
+    }
+
+    private void multipartUpload(String bucketName, String objectName, InputStream inputStream, long contentLength) throws IOException {
+        int partSize = ParallelPartUpload.partSize(oskProperties.getMultipartPartSizeBytes(), contentLength);
+        log.debug("Using multipart upload for object '{}' in S3 bucket '{}'", objectName, bucketName);
+        new S3MultipartUpload(s3Client, objectStorageExecutor, partSize, oskProperties.getMultipartConcurrency())
+                .upload(bucketName, objectName, inputStream, contentLength);
+    }
+
+    /**
+     * Looks up the object size and ETag, then prepares chunked ranged reads pinned to that ETag
+     * so that a concurrent overwrite fails the download instead of mixing two versions.
+     *
+     * @return the prepared download, or null if the object does not exist
+     */
+    private ParallelRangeDownload prepareParallelDownload(String bucketName, String objectName) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectName)
+                    .build());
+        } catch (S3Exception e) {
+            if (isNotFound(e)) {
+                return null;
+            }
+            throw e;
+        }
+
+        String eTag = head.eTag();
+        return new ParallelRangeDownload(objectStorageExecutor,
+                (offset, length) -> getRange(bucketName, objectName, eTag, offset, length),
+                head.contentLength(),
+                oskProperties.getDownloadChunkSizeBytes(),
+                oskProperties.getDownloadConcurrency());
+    }
+
+    /**
+     * Fetches a byte range of the object, optionally pinned to an ETag.
+     */
+    private byte[] getRange(String bucketName, String objectName, String eTag, long offset, long length) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .ifMatch(eTag)
+                .build();
+        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+    }
+
+    /**
+     * Aborts a response the handler stopped reading early, so closing it does not drain the rest of the body.
+     * A stream the handler already closed cannot be probed and is aborted as well, which is a no-op once released.
+     */
+    private static void abortUnlessFullyRead(ResponseInputStream<GetObjectResponse> response) {
+        try {
+            if (response.read() == -1) {
+                return;
+            }
+        } catch (IOException ignored) {
+            // The handler closed the stream
+        }
+        response.abort();
+    }
+
+    private static boolean isNotFound(S3Exception e) {
+        // HEAD responses carry no error body, so a missing key may surface as a bare 404
+        return e instanceof NoSuchKeyException || e.statusCode() == 404;
+    }
+
+    private static Path createPartFilePath(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+    }
+
+    private static void deletePartFile(Path partFile) {
+        if (partFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(partFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary download file '{}': {}", partFile, e.getMessage());
+        }
+    }
+
+    private void validateListRequest(ObjectListRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("List request cannot be null");
+        }
+        if (request.getMaxKeys() != null && request.getMaxKeys() <= 0) {
+            throw new IllegalArgumentException("Max keys must be positive");
+        }
+        if (request.getPrefetchPages() < 0) {
+            throw new IllegalArgumentException("Prefetch pages cannot be negative");
+        }
+    }
+
+    private void validatePageSize(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_KEYS_PER_PAGE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_KEYS_PER_PAGE);
+        }
+    }
+
+    private void validateRange(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Range offset and length cannot be negative");
+        }
+    }
+
+    private void validateFile(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File does not exist or is not a regular file: " + file);
+        }
+    }
+
     private void validateParameters(String bucketName, String objectName) {
         validateBucketName(bucketName);
         if (StringUtils.isBlank(objectName)) {
@@ -0,0 +1,121 @@
+package com.exabyting.springosk.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.List;
+
+/**
+ * Uploads a reactive stream of parts to S3 as a multipart upload, with up to {@code concurrency} parts in flight.
+ * Streams that fit in a single part are sent as a plain PUT. The upload is aborted if any part fails.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class S3ReactiveMultipartUpload {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final int partSize;
+    private final int concurrency;
+
+    /**
+     * @param parts chunks of exactly {@code partSize} bytes, except for the last one
+     */
+    Mono<Void> upload(String bucketName, String objectName, Flux<byte[]> parts) {
+        return parts
+                .switchOnFirst((first, all) -> {
+                    if (first.isOnError()) {
+                        return all;
+                    }
+                    byte[] firstPart = first.get();
+                    if (firstPart == null) {
+                        return putObject(bucketName, objectName, new byte[0]).flux();
+                    }
+                    if (firstPart.length < partSize) {
+                        // A short first part is also the last one
+                        return all.concatMap(part -> putObject(bucketName, objectName, part));
+                    }
+                    return multipartUpload(bucketName, objectName, all).flux();
+                })
+                .then();
+    }
+
+    private Mono<byte[]> putObject(String bucketName, String objectName, byte[] data) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .contentLength((long) data.length)
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(data)))
+                .thenReturn(data);
+    }
+
+    private Mono<byte[]> multipartUpload(String bucketName, String objectName, Flux<byte[]> parts) {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.createMultipartUpload(createRequest))
+                .map(CreateMultipartUploadResponse::uploadId)
+                .flatMap(uploadId -> {
+                    log.debug("Started reactive multipart upload '{}' for object '{}' in S3 bucket '{}' (part size: {} bytes, concurrency: {})",
+                            uploadId, objectName, bucketName, partSize, concurrency);
+                    return parts.index()
+                            .flatMapSequential(indexed -> uploadPart(bucketName, objectName, uploadId,
+                                    Math.toIntExact(indexed.getT1() + 1), indexed.getT2()), concurrency, 1)
+                            .collectList()
+                            .flatMap(completedParts -> complete(bucketName, objectName, uploadId, completedParts))
+                            .onErrorResume(error -> abort(bucketName, objectName, uploadId).then(Mono.error(error)));
+                })
+                .thenReturn(new byte[0]);
+    }
+
+    private Mono<CompletedPart> uploadPart(String bucketName, String objectName, String uploadId, int partNumber, byte[] data) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) data.length)
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.uploadPart(uploadPartRequest, AsyncRequestBody.fromBytes(data)))
+                .map(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+    }
+
+    private Mono<CompleteMultipartUploadResponse> complete(String bucketName, String objectName, String uploadId,
+                                                           List<CompletedPart> parts) {
+        CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.completeMultipartUpload(completeRequest))
+                .doOnSuccess(response -> log.debug("Completed reactive multipart upload '{}' for object '{}' with {} parts",
+                        uploadId, objectName, parts.size()));
+    }
+
+    private Mono<Void> abort(String bucketName, String objectName, String uploadId) {
+        AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectName)
+                .uploadId(uploadId)
+                .build();
+        return Mono.fromFuture(() -> s3AsyncClient.abortMultipartUpload(abortRequest))
+                .doOnSuccess(response -> log.debug("Aborted multipart upload '{}' for object '{}' in S3 bucket '{}'",
+                        uploadId, objectName, bucketName))
+                .onErrorResume(e -> {
+                    log.warn("Failed to abort multipart upload '{}' for object '{}' in S3 bucket '{}': {}",
+                            uploadId, objectName, bucketName, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,105 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.annotation.ConditionalOnStorageType;
+import com.exabyting.springosk.core.ReactiveObjectOperations;
+import com.exabyting.springosk.exception.ObjectNotFoundException;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import com.exabyting.springosk.support.Futures;
+import com.exabyting.springosk.support.ParallelPartUpload;
+import com.exabyting.springosk.support.ReactiveChunks;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reactive streaming operations on top of {@link S3AsyncClient}.
+ * Known-length uploads below the multipart threshold are streamed straight into a single PUT;
+ * larger or unknown-length uploads are regrouped into parts and sent as a multipart upload.
+ * A known-length upload sends exactly that many bytes and fails if the content ends early.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnStorageType
+public class S3ReactiveObjectOperations implements ReactiveObjectOperations {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final OskProperties oskProperties;
+
+    @Override
+    public Mono<Boolean> upload(@Nonnull String bucketName, @Nonnull String objectName, @Nonnull Publisher<ByteBuffer> content, long contentLength) {
+        return Mono.defer(() -> {
+                    validateParameters(bucketName, objectName);
+
+                    log.info("Uploading object '{}' to S3 bucket '{}' reactively", objectName, bucketName);
+
+                    Flux<ByteBuffer> limited = ReactiveChunks.limit(Flux.from(content), contentLength);
+                    if (contentLength >= 0 && contentLength < oskProperties.getMultipartThresholdBytes()) {
+                        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(objectName)
+                                .contentLength(contentLength)
+                                .build();
+                        return Mono.fromFuture(() -> s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromPublisher(limited)))
+                                .then();
+                    }
+                    int partSize = ParallelPartUpload.partSize(oskProperties.getMultipartPartSizeBytes(), contentLength);
+                    return new S3ReactiveMultipartUpload(s3AsyncClient, partSize, oskProperties.getMultipartConcurrency())
+                            .upload(bucketName, objectName, ReactiveChunks.rechunk(limited, partSize));
+                })
+                .doOnSuccess(ignored -> log.info("Successfully uploaded object '{}' to S3 bucket '{}'", objectName, bucketName))
+                .thenReturn(true)
+                .onErrorMap(error -> !(error instanceof ObjectOperationException), error -> {
+                    log.error("Failed to upload object '{}' to S3 bucket '{}': {}", objectName, bucketName, error.getMessage(), error);
+                    return new ObjectOperationException("Failed to upload object to S3: " + objectName, Futures.unwrap(error));
+                });
+    }
+
+    @Override
+    public Flux<ByteBuffer> download(@Nonnull String bucketName, @Nonnull String objectName) {
+        return Flux.defer(() -> {
+                    validateParameters(bucketName, objectName);
+
+                    log.info("Downloading object '{}' from S3 bucket '{}' reactively", objectName, bucketName);
+
+                    GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(objectName)
+                            .build();
+                    return Mono.fromFuture(() -> s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toPublisher()))
+                            .flatMapMany(Flux::from);
+                })
+                .onErrorMap(error -> !(error instanceof ObjectOperationException), error -> {
+                    Throwable cause = Futures.unwrap(error);
+                    if (cause instanceof NoSuchKeyException) {
+                        log.warn("Object '{}' not found in S3 bucket '{}'", objectName, bucketName);
+                        return new ObjectNotFoundException("Object not found in S3: " + objectName);
+                    }
+                    log.error("Failed to download object '{}' from S3 bucket '{}': {}", objectName, bucketName, cause.getMessage(), cause);
+                    return new ObjectOperationException("Failed to download object from S3: " + objectName, cause);
+                });
+    }
+
+    private void validateParameters(String bucketName, String objectName) {
+        if (StringUtils.isBlank(bucketName)) {
+            throw new IllegalArgumentException("Bucket name cannot be null or empty");
+        }
+        if (StringUtils.isBlank(objectName)) {
+            throw new IllegalArgumentException("Object name cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.exabyting.springosk.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Helpers for splitting work into request-sized batches.
+ */
+public final class Batches {
+
+    private Batches() {
+    }
+
+    /**
+     * Splits a list into consecutive batches of at most {@code batchSize} elements.
+     *
+     * @param items the items to split
+     * @param batchSize the maximum number of items per batch
+     * @param <T> the element type
+     * @return the batches, in order; views of the given list
+     */
+    public static <T> List<List<T>> partition(List<T> items, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        List<List<T>> batches = new ArrayList<>((items.size() + batchSize - 1) / batchSize);
+        for (int start = 0; start < items.size(); start += batchSize) {
+            batches.add(items.subList(start, Math.min(start + batchSize, items.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Lazily groups the elements of an iterator into consecutive batches of at most {@code batchSize} elements.
+     * Each batch is drained from the source only when it is requested.
+     *
+     * @param items the items to group
+     * @param batchSize the maximum number of items per batch
+     * @param <T> the element type
+     * @return an iterator over the batches, in order
+     */
+    public static <T> Iterator<List<T>> of(Iterator<T> items, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!items.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && items.hasNext()) {
+                    batch.add(items.next());
+                }
+                return batch;
+            }
+        };
+    }
+}
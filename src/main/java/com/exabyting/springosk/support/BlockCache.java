@@ -0,0 +1,87 @@
+package com.exabyting.springosk.support;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least-recently-used cache of fixed-size object blocks, bounded by the total number of cached bytes.
+ */
+public class BlockCache {
+
+    /**
+     * Loads a block that is not cached yet.
+     */
+    @FunctionalInterface
+    public interface BlockLoader {
+        byte[] load(long blockIndex) throws IOException;
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, byte[]> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long cachedBytes;
+
+    public BlockCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached block, loading and caching it on a miss.
+     *
+     * @param blockIndex the index of the block
+     * @param loader the loader used on a cache miss
+     * @return the block content
+     * @throws IOException if loading the block fails
+     */
+    public byte[] get(long blockIndex, BlockLoader loader) throws IOException {
+        synchronized (this) {
+            byte[] block = blocks.get(blockIndex);
+            if (block != null) {
+                hits.incrementAndGet();
+                return block;
+            }
+        }
+        misses.incrementAndGet();
+        byte[] block = loader.load(blockIndex);
+        put(blockIndex, block);
+        return block;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized void clear() {
+        blocks.clear();
+        cachedBytes = 0;
+    }
+
+    private synchronized void put(long blockIndex, byte[] block) {
+        if (block.length > maxBytes) {
+            return;
+        }
+        byte[] previous = blocks.put(blockIndex, block);
+        if (previous != null) {
+            cachedBytes -= previous.length;
+        }
+        cachedBytes += block.length;
+
+        Iterator<Map.Entry<Long, byte[]>> eldest = blocks.entrySet().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+}
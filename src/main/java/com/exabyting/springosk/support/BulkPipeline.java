@@ -0,0 +1,70 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Runs a bulk operation over batches produced lazily, e.g. one batch per listing page.
+ * <p>
+ * The next batch is pulled from the source while up to {@code maxInFlight} earlier batches are processed on the
+ * executor, so listing and processing overlap and memory stays bounded by the number of batches in flight.
+ * Batch tasks report per-key failures in their result; an exception from the source or a task stops the pipeline.
+ */
+public final class BulkPipeline {
+
+    private BulkPipeline() {
+    }
+
+    /**
+     * Processes every batch of the source.
+     *
+     * @param batches the batches to process, pulled one at a time on the calling thread
+     * @param maxInFlight the maximum number of batches processed at the same time
+     * @param executor the executor batches are processed on
+     * @param task the operation applied to each batch
+     * @param <T> the batch element type
+     * @return the combined result of all batches
+     */
+    public static <T> BulkOperationResult run(Iterator<List<T>> batches, int maxInFlight, ObjectStorageExecutor executor,
+                                              Function<List<T>, BulkOperationResult> task) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight batches must be positive");
+        }
+        Deque<CompletableFuture<BulkOperationResult>> inFlight = new ArrayDeque<>();
+        BulkOperationResult result = BulkOperationResult.empty();
+        while (batches.hasNext()) {
+            List<T> batch = batches.next();
+            if (batch.isEmpty()) {
+                continue;
+            }
+            if (inFlight.size() >= maxInFlight) {
+                result = result.merge(join(inFlight.poll()));
+            }
+            inFlight.add(executor.supplyAsync(() -> task.apply(batch)));
+        }
+        while (!inFlight.isEmpty()) {
+            result = result.merge(join(inFlight.poll()));
+        }
+        return result;
+    }
+
+    private static BulkOperationResult join(CompletableFuture<BulkOperationResult> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            Throwable cause = Futures.unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.exabyting.springosk.support;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Helpers for working with {@link java.util.concurrent.CompletableFuture} results.
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Strips the {@link CompletionException}/{@link ExecutionException} wrappers added by future composition.
+     *
+     * @param error the error a future completed with
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
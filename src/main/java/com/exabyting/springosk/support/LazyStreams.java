@@ -0,0 +1,77 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Helpers for exposing lazily paged SDK results as {@link Stream}s.
+ */
+public final class LazyStreams {
+
+    private LazyStreams() {
+    }
+
+    /**
+     * Creates a sequential stream over an iterator whose {@code hasNext}/{@code next} may fetch
+     * further pages. SDK errors raised while fetching are rethrown as {@link ObjectOperationException}.
+     *
+     * @param iterator the lazily paged iterator
+     * @param errorMessage the message of the wrapping exception
+     * @param <T> the element type
+     * @return a lazy stream over the iterator
+     */
+    public static <T> Stream<T> of(Iterator<T> iterator, String errorMessage) {
+        Iterator<T> translating = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (ObjectOperationException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new ObjectOperationException(errorMessage, e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (ObjectOperationException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new ObjectOperationException(errorMessage, e);
+                }
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(translating, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Creates a lazy stream like {@link #of(Iterator, String)} that reads up to {@code prefetchPages} pages ahead
+     * of the consumer on the executor. Closing the stream cancels pages that have not been fetched yet.
+     *
+     * @param iterator the lazily paged iterator
+     * @param pageSize the number of elements per page
+     * @param prefetchPages the number of pages to read ahead, or 0 to read none
+     * @param executor the executor pages are read on
+     * @param errorMessage the message of the wrapping exception
+     * @param <T> the element type
+     * @return a lazy stream over the iterator
+     */
+    public static <T> Stream<T> prefetching(Iterator<T> iterator, int pageSize, int prefetchPages,
+                                            ObjectStorageExecutor executor, String errorMessage) {
+        if (prefetchPages == 0) {
+            return of(iterator, errorMessage);
+        }
+        PrefetchingIterator<T> prefetching = new PrefetchingIterator<>(iterator, pageSize, prefetchPages, executor);
+        return of(prefetching, errorMessage).onClose(prefetching::close);
+    }
+}
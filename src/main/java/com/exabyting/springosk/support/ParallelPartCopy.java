@@ -0,0 +1,116 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Splits an object into byte ranges and copies them server-side as the parts of a multipart upload.
+ * No object data passes through the client, so each part costs a single metadata request.
+ */
+public final class ParallelPartCopy {
+
+    /**
+     * Largest object a single copy request, and largest range a single part copy request, may copy.
+     */
+    public static final long MAX_SINGLE_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+
+    /**
+     * A byte range of the source object, copied as one part.
+     *
+     * @param partNumber the 1-based part number
+     * @param firstByte the offset of the first byte, inclusive
+     * @param lastByte the offset of the last byte, inclusive
+     */
+    public record PartRange(int partNumber, long firstByte, long lastByte) {
+
+        /**
+         * Returns the range in the {@code bytes=first-last} form used by copy-source range headers.
+         */
+        public String toHttpRange() {
+            return "bytes=" + firstByte + "-" + lastByte;
+        }
+    }
+
+    /**
+     * Copies a single part and returns the backend-specific receipt for it.
+     *
+     * @param <R> the type of the part receipt
+     */
+    @FunctionalInterface
+    public interface PartHandler<R> {
+        R copy(PartRange range) throws Exception;
+    }
+
+    private ParallelPartCopy() {
+    }
+
+    /**
+     * Resolves the part size to use, growing the configured size when needed so that an object of
+     * the given length fits into {@link ParallelPartUpload#MAX_PARTS} parts.
+     *
+     * @param configuredPartSize the configured part size in bytes
+     * @param contentLength the object length
+     * @return the part size in bytes, between the minimum part size and {@link #MAX_SINGLE_COPY_SIZE}
+     */
+    public static long partSize(long configuredPartSize, long contentLength) {
+        long partSize = Math.max(configuredPartSize, ParallelPartUpload.MIN_PART_SIZE);
+        partSize = Math.max(partSize, (contentLength + ParallelPartUpload.MAX_PARTS - 1) / ParallelPartUpload.MAX_PARTS);
+        return Math.min(partSize, MAX_SINGLE_COPY_SIZE);
+    }
+
+    /**
+     * Splits an object into consecutive part ranges.
+     *
+     * @param contentLength the object length, must be positive
+     * @param partSize the part size in bytes
+     * @return the part ranges ordered by part number
+     */
+    public static List<PartRange> ranges(long contentLength, long partSize) {
+        if (contentLength <= 0 || partSize <= 0) {
+            throw new IllegalArgumentException("Content length and part size must be positive");
+        }
+        List<PartRange> ranges = new ArrayList<>((int) ((contentLength + partSize - 1) / partSize));
+        int partNumber = 0;
+        for (long firstByte = 0; firstByte < contentLength; firstByte += partSize) {
+            ranges.add(new PartRange(++partNumber, firstByte, Math.min(firstByte + partSize, contentLength) - 1));
+        }
+        if (ranges.size() > ParallelPartUpload.MAX_PARTS) {
+            throw new ObjectOperationException("Object exceeds the maximum of " + ParallelPartUpload.MAX_PARTS + " parts");
+        }
+        return ranges;
+    }
+
+    /**
+     * Copies every part of an object concurrently. The first failed part stops further parts from being started.
+     *
+     * @param contentLength the object length
+     * @param partSize the part size in bytes
+     * @param concurrency the maximum number of parts copied at the same time
+     * @param executor the executor running part copies
+     * @param handler the callback copying a single part
+     * @param <R> the type of the part receipt
+     * @return the part receipts ordered by part number
+     * @throws ObjectOperationException if a part copy fails
+     */
+    public static <R> List<R> copyParts(long contentLength, long partSize, int concurrency,
+                                        ObjectStorageExecutor executor, PartHandler<R> handler) {
+        try {
+            return executor.<PartRange, R>mapAll(ranges(contentLength, partSize), Math.max(1, concurrency), range -> {
+                try {
+                    return handler.copy(range);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            Throwable cause = Futures.unwrap(e);
+            throw new ObjectOperationException("Failed to copy part: " + cause.getMessage(), cause);
+        }
+    }
+}
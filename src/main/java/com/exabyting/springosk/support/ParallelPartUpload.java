@@ -0,0 +1,165 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits a stream into fixed-size parts and uploads them concurrently.
+ * At most {@code concurrency} parts are held in memory at any time, so peak memory
+ * is bounded by {@code concurrency * partSize} regardless of the object size.
+ */
+public final class ParallelPartUpload {
+
+    /**
+     * Smallest part size accepted by S3-compatible multipart APIs (except for the last part).
+     */
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * Largest number of parts a single multipart upload may have.
+     */
+    public static final int MAX_PARTS = 10_000;
+
+    /**
+     * Uploads a single part and returns the backend-specific receipt for it.
+     *
+     * @param <R> the type of the part receipt
+     */
+    @FunctionalInterface
+    public interface PartHandler<R> {
+        R upload(int partNumber, byte[] data) throws Exception;
+    }
+
+    private ParallelPartUpload() {
+    }
+
+    /**
+     * Resolves the part size to use, growing the configured size when needed so that
+     * an object of the given length fits into {@link #MAX_PARTS} parts.
+     *
+     * @param configuredPartSize the configured part size in bytes
+     * @param contentLength the object length, or a negative value if unknown
+     * @return the part size in bytes
+     */
+    public static int partSize(int configuredPartSize, long contentLength) {
+        long partSize = Math.max(configuredPartSize, MIN_PART_SIZE);
+        if (contentLength > 0) {
+            partSize = Math.max(partSize, (contentLength + MAX_PARTS - 1) / MAX_PARTS);
+        }
+        return (int) Math.min(partSize, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Reads a stream of unknown length part by part, up to its end, and uploads the parts concurrently.
+     *
+     * @see #uploadParts(InputStream, long, int, int, ObjectStorageExecutor, PartHandler)
+     */
+    public static <R> List<R> uploadParts(InputStream inputStream, int partSize, int concurrency,
+                                          ObjectStorageExecutor executor, PartHandler<R> handler) throws IOException {
+        return uploadParts(inputStream, -1, partSize, concurrency, executor, handler);
+    }
+
+    /**
+     * Reads the stream part by part and uploads the parts concurrently.
+     * With a known content length exactly that many bytes are read; bytes past it are left unread,
+     * and a stream ending early fails the upload instead of storing a truncated object.
+     * Reading stops at the first failed part; parts already in flight are awaited before returning.
+     *
+     * @param inputStream the stream to upload
+     * @param contentLength the number of bytes to upload, or a negative value to read up to the end of the stream
+     * @param partSize the part size in bytes
+     * @param concurrency the maximum number of parts uploaded at the same time
+     * @param executor the executor running part uploads
+     * @param handler the callback uploading a single part
+     * @param <R> the type of the part receipt
+     * @return the part receipts ordered by part number
+     * @throws IOException if reading the stream fails
+     * @throws ObjectOperationException if a part upload fails or the stream ends before the content length
+     */
+    public static <R> List<R> uploadParts(InputStream inputStream, long contentLength, int partSize, int concurrency,
+                                          ObjectStorageExecutor executor, PartHandler<R> handler) throws IOException {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+
+        try {
+            long remaining = contentLength >= 0 ? contentLength : Long.MAX_VALUE;
+            int partNumber = 0;
+            while (failure.get() == null) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                int length = (int) Math.min(partSize, remaining);
+                byte[] data = inputStream.readNBytes(length);
+                if (contentLength >= 0 && data.length < length) {
+                    permits.release();
+                    throw new ObjectOperationException("Stream ended after " + (contentLength - remaining + data.length)
+                            + " of " + contentLength + " bytes");
+                }
+                remaining -= data.length;
+                if (data.length == 0 && partNumber > 0) {
+                    permits.release();
+                    break;
+                }
+                if (++partNumber > MAX_PARTS) {
+                    permits.release();
+                    throw new ObjectOperationException("Object exceeds the maximum of " + MAX_PARTS + " parts");
+                }
+
+                int currentPart = partNumber;
+                CompletableFuture<R> future = executor.supplyAsync(() -> {
+                    try {
+                        return handler.upload(currentPart, data);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+                future.whenComplete((receipt, error) -> {
+                    if (error != null) {
+                        failure.compareAndSet(null, unwrap(error));
+                    }
+                    permits.release();
+                });
+                futures.add(future);
+
+                if (data.length < partSize || remaining == 0) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            awaitAll(futures);
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new ObjectOperationException("Failed to upload part: " + error.getMessage(), error);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static void awaitAll(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ignored) {
+            // Failures are recorded per part and reported by the caller
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
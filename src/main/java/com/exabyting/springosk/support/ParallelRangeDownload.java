@@ -0,0 +1,132 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Downloads an object as fixed-size chunks fetched concurrently with ranged GET requests.
+ * Chunks are delivered in order through a sliding window, so at most {@code concurrency}
+ * chunks are held in memory at any time.
+ */
+public class ParallelRangeDownload {
+
+    /**
+     * Fetches a single byte range of the object.
+     */
+    @FunctionalInterface
+    public interface RangeFetcher {
+        byte[] fetch(long offset, int length) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(long offset, byte[] chunk) throws IOException;
+    }
+
+    private final ObjectStorageExecutor executor;
+    private final RangeFetcher fetcher;
+    private final long objectSize;
+    private final int chunkSize;
+    private final int concurrency;
+
+    public ParallelRangeDownload(ObjectStorageExecutor executor, RangeFetcher fetcher,
+                                 long objectSize, int chunkSize, int concurrency) {
+        this.executor = executor;
+        this.fetcher = fetcher;
+        this.objectSize = objectSize;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Downloads the object into a new byte array.
+     *
+     * @return the object content
+     * @throws IOException if a chunk cannot be delivered
+     */
+    public byte[] toByteArray() throws IOException {
+        if (objectSize > Integer.MAX_VALUE - 8) {
+            throw new ObjectOperationException("Object of " + objectSize + " bytes is too large for a byte array");
+        }
+        byte[] content = new byte[(int) objectSize];
+        forEachChunk((offset, chunk) -> System.arraycopy(chunk, 0, content, (int) offset, chunk.length));
+        return content;
+    }
+
+    /**
+     * Downloads the object into the given file, writing each chunk at its offset.
+     * An existing file is truncated.
+     *
+     * @param file the destination file
+     * @throws IOException if writing the file fails
+     */
+    public void toFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            forEachChunk((offset, chunk) -> {
+                ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                long position = offset;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            });
+        }
+    }
+
+    /**
+     * Downloads the object into the given stream in order. The stream is not closed.
+     *
+     * @param outputStream the destination stream
+     * @throws IOException if writing the stream fails
+     */
+    public void toStream(OutputStream outputStream) throws IOException {
+        forEachChunk((offset, chunk) -> outputStream.write(chunk));
+    }
+
+    private void forEachChunk(ChunkConsumer consumer) throws IOException {
+        Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>();
+        long nextOffset = 0;
+        long deliveredOffset = 0;
+        try {
+            while (nextOffset < objectSize || !window.isEmpty()) {
+                while (window.size() < concurrency && nextOffset < objectSize) {
+                    window.add(fetchAsync(nextOffset, (int) Math.min(chunkSize, objectSize - nextOffset)));
+                    nextOffset += chunkSize;
+                }
+                byte[] chunk = window.poll().join();
+                consumer.accept(deliveredOffset, chunk);
+                deliveredOffset += chunk.length;
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new ObjectOperationException("Failed to download chunk: " + cause.getMessage(), cause);
+        } finally {
+            window.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private CompletableFuture<byte[]> fetchAsync(long offset, int length) {
+        return executor.supplyAsync(() -> {
+            try {
+                byte[] chunk = fetcher.fetch(offset, length);
+                if (chunk.length != length) {
+                    throw new IOException("Expected " + length + " bytes at offset " + offset + " but received " + chunk.length);
+                }
+                return chunk;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterator that reads ahead of its consumer in batches, e.g. listing pages.
+ * <p>
+ * While the consumer works through one batch, up to {@code depth} further batches are drained from the source on the
+ * executor. Batches are drained one after another, since the source may only be able to request a page once the
+ * previous one is known (continuation tokens). The source is never touched by two threads at the same time.
+ *
+ * @param <T> the element type
+ */
+public final class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Iterator<T> source;
+    private final int batchSize;
+    private final int depth;
+    private final ObjectStorageExecutor executor;
+    private final Deque<CompletableFuture<List<T>>> batches = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean finished;
+
+    /**
+     * @param source the iterator to read ahead of, typically fetching a page when it runs out of elements
+     * @param batchSize the number of elements drained per batch, typically the page size
+     * @param depth the maximum number of batches read ahead of the consumer
+     * @param executor the executor batches are drained on
+     */
+    public PrefetchingIterator(Iterator<T> source, int batchSize, int depth, ObjectStorageExecutor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Prefetch depth must be positive");
+        }
+        this.source = source;
+        this.batchSize = batchSize;
+        this.depth = depth;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            fill();
+            List<T> batch = join(batches.poll());
+            // A short batch means the source is drained; batches queued behind it are empty
+            if (batch.size() < batchSize) {
+                finished = true;
+                close();
+            }
+            current = batch.iterator();
+            fill();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Cancels batches that have not been drained yet.
+     */
+    @Override
+    public void close() {
+        batches.forEach(batch -> batch.cancel(false));
+        batches.clear();
+    }
+
+    private void fill() {
+        while (!finished && batches.size() < depth) {
+            CompletableFuture<List<T>> previous = batches.peekLast();
+            batches.add(previous == null
+                    ? executor.supplyAsync(this::drainBatch)
+                    : previous.thenApplyAsync(batch -> batch.size() < batchSize ? List.of() : drainBatch(), executor.executor()));
+        }
+    }
+
+    private List<T> drainBatch() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && source.hasNext()) {
+            batch.add(source.next());
+        }
+        return batch;
+    }
+
+    private static <T> List<T> join(CompletableFuture<List<T>> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            Throwable cause = Futures.unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
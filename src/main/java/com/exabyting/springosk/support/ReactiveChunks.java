@@ -0,0 +1,85 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.exception.ObjectOperationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Regroups a reactive byte stream into fixed-size chunks, e.g. multipart upload parts,
+ * and holds it to a declared content length.
+ */
+public final class ReactiveChunks {
+
+    private ReactiveChunks() {
+    }
+
+    /**
+     * Regroups the buffers into chunks of exactly {@code chunkSize} bytes; only the last chunk may be shorter.
+     * An empty source produces no chunks. At most one partial chunk is held in memory.
+     *
+     * @param source the source buffers
+     * @param chunkSize the chunk size in bytes
+     * @return the regrouped chunks
+     */
+    public static Flux<byte[]> rechunk(Flux<ByteBuffer> source, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return Flux.defer(() -> {
+            ByteArrayOutputStream current = new ByteArrayOutputStream(chunkSize);
+            return source
+                    .concatMapIterable(buffer -> {
+                        List<byte[]> completed = new ArrayList<>();
+                        while (buffer.hasRemaining()) {
+                            int count = Math.min(buffer.remaining(), chunkSize - current.size());
+                            byte[] bytes = new byte[count];
+                            buffer.get(bytes);
+                            current.writeBytes(bytes);
+                            if (current.size() == chunkSize) {
+                                completed.add(current.toByteArray());
+                                current.reset();
+                            }
+                        }
+                        return completed;
+                    })
+                    .concatWith(Flux.defer(() -> current.size() > 0
+                            ? Flux.just(current.toByteArray())
+                            : Flux.empty()));
+        });
+    }
+
+    /**
+     * Passes through exactly {@code contentLength} bytes of the source. Bytes past the length are cut off and
+     * the source is cancelled; a source that completes before the length is reached fails the stream.
+     *
+     * @param source the source buffers
+     * @param contentLength the number of bytes to pass through, or a negative value to pass the source through unchanged
+     * @return the limited buffers
+     */
+    public static Flux<ByteBuffer> limit(Flux<ByteBuffer> source, long contentLength) {
+        if (contentLength < 0) {
+            return source;
+        }
+        return Flux.defer(() -> {
+            AtomicLong remaining = new AtomicLong(contentLength);
+            return source
+                    .map(buffer -> {
+                        long left = remaining.get();
+                        ByteBuffer limited = buffer.remaining() > left ? buffer.slice(buffer.position(), (int) left) : buffer;
+                        remaining.addAndGet(-limited.remaining());
+                        return limited;
+                    })
+                    .takeUntil(buffer -> remaining.get() == 0)
+                    .concatWith(Mono.defer(() -> remaining.get() > 0
+                            ? Mono.error(new ObjectOperationException("Content ended after " + (contentLength - remaining.get())
+                                    + " of " + contentLength + " bytes"))
+                            : Mono.empty()));
+        });
+    }
+}
@@ -0,0 +1,255 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.core.ObjectSummary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Lists a keyspace with several concurrent listing requests.
+ * <p>
+ * Sorted boundary keys split the keyspace into contiguous shards {@code (b[i-1], b[i]]}: each shard starts listing
+ * after its lower boundary and stops at its upper boundary, so the shards cover every key exactly once. Each active
+ * shard keeps one page request in flight on the executor. Ordered results drain the shards in key order, unordered
+ * results are returned from whichever shard delivers a page first. Page requests never block on the consumer, so a
+ * saturated executor running them on the calling thread cannot deadlock the listing.
+ */
+public final class ShardedListing {
+
+    /**
+     * Orders keys by code point, which matches the UTF-8 byte order object stores list keys in.
+     */
+    public static final Comparator<String> KEY_ORDER = ShardedListing::compareKeys;
+
+    /**
+     * Loads one page of a listing.
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        /**
+         * Loads up to {@code pageSize} objects whose keys sort after {@code startAfter}, in key order.
+         *
+         * @param startAfter the key to start after, or null to start at the first key
+         * @param pageSize the maximum number of objects to return
+         * @return the objects of the page
+         */
+        List<ObjectSummary> load(String startAfter, int pageSize);
+    }
+
+    private ShardedListing() {
+    }
+
+    /**
+     * Builds one shard boundary per distinct character of the alphabet appended to the prefix.
+     *
+     * @param prefix the common prefix of the listed keys, may be null
+     * @param alphabet the characters to split the keyspace at, may be null
+     * @return the sorted boundaries
+     */
+    public static List<String> alphabetBoundaries(String prefix, String alphabet) {
+        if (alphabet == null) {
+            return List.of();
+        }
+        String base = prefix == null ? "" : prefix;
+        return alphabet.chars()
+                .distinct()
+                .sorted()
+                .mapToObj(c -> base + (char) c)
+                .toList();
+    }
+
+    /**
+     * Lists all keys across the shards delimited by the given boundaries.
+     *
+     * @param loader loads pages of the whole keyspace
+     * @param boundaries the shard boundaries, in any order
+     * @param executor the executor page requests run on
+     * @param concurrency the maximum number of shards listed at the same time
+     * @param ordered whether results are returned in key order
+     * @param pageSize the number of keys requested per page
+     * @param errorMessage the message of the exception wrapping listing errors
+     * @return a lazy stream over all listed objects; closing it cancels outstanding page requests
+     */
+    public static Stream<ObjectSummary> stream(PageLoader loader, Collection<String> boundaries, ObjectStorageExecutor executor,
+                                               int concurrency, boolean ordered, int pageSize, String errorMessage) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        List<String> sorted = boundaries.stream().distinct().sorted(KEY_ORDER).toList();
+        Deque<Shard> shards = new ArrayDeque<>(sorted.size() + 1);
+        for (int i = 0; i <= sorted.size(); i++) {
+            String lowerExclusive = i == 0 ? null : sorted.get(i - 1);
+            String upperInclusive = i == sorted.size() ? null : sorted.get(i);
+            shards.add(new Shard(loader, executor, pageSize, lowerExclusive, upperInclusive));
+        }
+        ShardIterator iterator = new ShardIterator(shards, concurrency, ordered);
+        return LazyStreams.of(iterator, errorMessage).onClose(iterator::cancel);
+    }
+
+    private static int compareKeys(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int a = left.codePointAt(i);
+            int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    private static final class ShardIterator implements Iterator<ObjectSummary> {
+        private final Deque<Shard> waiting;
+        private final List<Shard> active = new ArrayList<>();
+        private final int concurrency;
+        private final boolean ordered;
+        private Iterator<ObjectSummary> current = Collections.emptyIterator();
+
+        private ShardIterator(Deque<Shard> waiting, int concurrency, boolean ordered) {
+            this.waiting = waiting;
+            this.concurrency = concurrency;
+            this.ordered = ordered;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                Shard shard = nextShard();
+                if (shard == null) {
+                    return false;
+                }
+                current = shard.take().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public ObjectSummary next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private Shard nextShard() {
+            active.removeIf(Shard::isDone);
+            while (active.size() < concurrency && !waiting.isEmpty()) {
+                Shard shard = waiting.poll();
+                shard.prefetch();
+                active.add(shard);
+            }
+            if (active.isEmpty()) {
+                return null;
+            }
+            if (ordered) {
+                return active.get(0);
+            }
+            for (Shard shard : active) {
+                if (shard.isReady()) {
+                    return shard;
+                }
+            }
+            // Wait for any shard; a failed page is rethrown when that shard is taken
+            CompletableFuture.anyOf(active.stream().map(shard -> shard.pending).toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+            for (Shard shard : active) {
+                if (shard.isReady()) {
+                    return shard;
+                }
+            }
+            return active.get(0);
+        }
+
+        private void cancel() {
+            active.forEach(Shard::cancel);
+            active.clear();
+            waiting.clear();
+        }
+    }
+
+    private static final class Shard {
+        private final PageLoader loader;
+        private final ObjectStorageExecutor executor;
+        private final int pageSize;
+        private final String upperInclusive;
+        private String cursor;
+        private boolean exhausted;
+        private CompletableFuture<List<ObjectSummary>> pending;
+
+        private Shard(PageLoader loader, ObjectStorageExecutor executor, int pageSize,
+                      String lowerExclusive, String upperInclusive) {
+            this.loader = loader;
+            this.executor = executor;
+            this.pageSize = pageSize;
+            this.upperInclusive = upperInclusive;
+            this.cursor = lowerExclusive;
+        }
+
+        private void prefetch() {
+            if (!exhausted && pending == null) {
+                pending = executor.supplyAsync(this::load);
+            }
+        }
+
+        private boolean isReady() {
+            return pending != null && pending.isDone();
+        }
+
+        // The cursor and exhausted flag are only written by load() and read after joining its future
+        private boolean isDone() {
+            return pending == null && exhausted;
+        }
+
+        private List<ObjectSummary> take() {
+            List<ObjectSummary> page;
+            try {
+                page = pending.join();
+            } catch (CompletionException e) {
+                Throwable cause = Futures.unwrap(e);
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+            pending = null;
+            prefetch();
+            return page;
+        }
+
+        private List<ObjectSummary> load() {
+            List<ObjectSummary> page = loader.load(cursor, pageSize);
+            List<ObjectSummary> inRange = upperInclusive == null
+                    ? page
+                    : page.stream().takeWhile(object -> compareKeys(object.key(), upperInclusive) <= 0).toList();
+            exhausted = page.size() < pageSize || inRange.size() < page.size();
+            if (!inRange.isEmpty()) {
+                cursor = inRange.get(inRange.size() - 1).key();
+            }
+            return inRange;
+        }
+
+        private void cancel() {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+    }
+}
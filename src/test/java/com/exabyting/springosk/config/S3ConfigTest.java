@@ -7,11 +7,15 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import com.exabyting.springosk.properties.ClientImplementation;
 import com.exabyting.springosk.properties.OskProperties;
 import com.exabyting.springosk.properties.StorageType;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(classes = {S3Config.class, S3ConfigTest.TestConfig.class})
 class S3ConfigTest {
@@ -40,4 +44,22 @@ class S3ConfigTest {
         S3Client s3Client = applicationContext.getBean(S3Client.class);
         assertNotNull(s3Client, "S3Client bean should not be null");
     }
+
+    @Test
+    void asyncClientAndTransferManagerBeansShouldBeCreated() {
+        assertNotNull(applicationContext.getBean(S3AsyncClient.class), "S3AsyncClient bean should not be null");
+        assertNotNull(applicationContext.getBean(S3TransferManager.class), "S3TransferManager bean should not be null");
+    }
+
+    @Test
+    void crtClientShouldRequireAwsCrtOnClasspath() {
+        OskProperties properties = applicationContext.getBean(OskProperties.class);
+        properties.setClientImplementation(ClientImplementation.crt);
+        try {
+            assertThrows(IllegalStateException.class, () -> new S3Config().s3AsyncClient(properties),
+                    "CRT client should fail fast when aws-crt is missing");
+        } finally {
+            properties.setClientImplementation(ClientImplementation.standard);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.exabyting.springosk.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BucketUsage Tests")
+class BucketUsageTest {
+
+    @Test
+    @DisplayName("Should place sizes in the range below their exclusive upper bound")
+    void shouldPlaceSizesInRanges() {
+        BucketUsage.Accumulator accumulator = new BucketUsage.Accumulator("prefix/");
+        accumulator.add(0);
+        accumulator.add(1023);
+        accumulator.add(1024);
+        accumulator.add(5L * 1024 * 1024 * 1024);
+
+        BucketUsage usage = accumulator.toUsage();
+
+        assertEquals("prefix/", usage.prefix());
+        assertEquals(4, usage.objectCount());
+        assertEquals(2, usage.sizeHistogram().get(1024L));
+        assertEquals(1, usage.sizeHistogram().get(64L * 1024));
+        assertEquals(1, usage.sizeHistogram().get(Long.MAX_VALUE));
+        assertEquals(5L * 1024 * 1024 * 1024, usage.largestObjectBytes());
+        assertEquals(BucketUsage.SIZE_RANGE_BOUNDS, usage.sizeHistogram().keySet().stream().toList());
+    }
+
+    @Test
+    @DisplayName("Should report zero usage for no objects")
+    void shouldReportZeroUsage() {
+        BucketUsage usage = new BucketUsage.Accumulator(null).toUsage();
+
+        assertEquals(0, usage.objectCount());
+        assertEquals(0, usage.totalBytes());
+        assertEquals(0, usage.averageObjectBytes());
+        assertTrue(usage.sizeHistogram().values().stream().allMatch(count -> count == 0));
+    }
+}
@@ -1,26 +1,53 @@
 package com.exabyting.springosk.core;
 
+import com.exabyting.springosk.config.ExecutorConfig;
 import com.exabyting.springosk.config.PropertiesConfig;
 import com.exabyting.springosk.config.S3Config;
+import com.exabyting.springosk.exception.ObjectNotFoundException;
+import com.exabyting.springosk.exception.ObjectOperationException;
 import com.exabyting.springosk.properties.OskProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.localstack.LocalStackContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @Testcontainers
-@SpringBootTest(classes = {S3Config.class, PropertiesConfig.class, ObjectStorageClient.class, com.exabyting.springosk.s3.S3BucketOperations.class, com.exabyting.springosk.s3.S3ObjectOperations.class})
+@SpringBootTest(classes = {S3Config.class, PropertiesConfig.class, ExecutorConfig.class, ObjectStorageClient.class, com.exabyting.springosk.s3.S3BucketOperations.class, com.exabyting.springosk.s3.S3ObjectOperations.class, AsyncObjectStorageClient.class, com.exabyting.springosk.s3.S3AsyncObjectOperations.class, ReactiveObjectStorageClient.class, com.exabyting.springosk.s3.S3ReactiveObjectOperations.class})
 @DisplayName("ObjectStorageOperations S3 Integration Tests with TestContainers")
 @Slf4j
 class ObjectStorageClientS3Test {
@@ -31,6 +58,8 @@ class ObjectStorageClientS3Test {
     private static final String TEST_OBJECT_KEY_2 = "test-object-2.txt";
     private static final String TEST_OBJECT_CONTENT_1 = "Hello ObjectStorageOperations S3 Test 1!";
     private static final String TEST_OBJECT_CONTENT_2 = "Hello ObjectStorageOperations S3 Test 2!";
+    private static final int MULTIPART_THRESHOLD_BYTES = 6 * 1024 * 1024;
+    private static final int DOWNLOAD_CHUNK_SIZE_BYTES = 1024 * 1024;
     private static final String INVALID_BUCKET_NAME = "invalid-bucket-" + System.currentTimeMillis();
 
     @Container
@@ -42,6 +71,15 @@ class ObjectStorageClientS3Test {
     @Autowired
     private ObjectStorageClient objectStorageClient;
 
+    @Autowired
+    private AsyncObjectStorageClient asyncObjectStorageClient;
+
+    @Autowired
+    private ReactiveObjectStorageClient reactiveObjectStorageClient;
+
+    @Autowired
+    private ObjectStorageExecutor objectStorageExecutor;
+
     @Autowired
     private OskProperties oskProperties;
 
@@ -55,6 +93,8 @@ class ObjectStorageClientS3Test {
         registry.add("object-storage-kit.path-style-access", () -> true);
         registry.add("object-storage-kit.default-bucket", () -> TEST_BUCKET_NAME_1);
         registry.add("object-storage-kit.auto-create-bucket", () -> false);
+        registry.add("object-storage-kit.multipart-threshold-bytes", () -> MULTIPART_THRESHOLD_BYTES);
+        registry.add("object-storage-kit.download-chunk-size-bytes", () -> DOWNLOAD_CHUNK_SIZE_BYTES);
     }
 
     @BeforeAll
@@ -408,4 +448,702 @@ class ObjectStorageClientS3Test {
         List<String> buckets = objectStorageClient.listBuckets();
         assertFalse(buckets.contains(TEST_BUCKET_NAME_1), "Bucket should not exist after deletion");
     }
+
+    @Test
+    @DisplayName("Should put object from stream with known length")
+    void testPutObjectFromStream() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Boolean result = objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1,
+                new ByteArrayInputStream(content), content.length);
+
+        // Assert
+        assertTrue(result, "Stream upload should succeed");
+        assertTrue(objectStorageClient.listObjects(TEST_BUCKET_NAME_1).contains(TEST_OBJECT_KEY_1),
+                "Uploaded object should be in the list");
+    }
+
+    @Test
+    @DisplayName("Should put object from stream with unknown length")
+    void testPutObjectFromStreamWithUnknownLength() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_2.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Boolean result = objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2,
+                new ByteArrayInputStream(content));
+
+        // Assert
+        assertTrue(result, "Stream upload of unknown length should succeed");
+        assertTrue(objectStorageClient.listObjects(TEST_BUCKET_NAME_1).contains(TEST_OBJECT_KEY_2),
+                "Uploaded object should be in the list");
+    }
+
+    @Test
+    @DisplayName("Should get object content after upload")
+    void testGetObject() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act
+        byte[] downloaded = objectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1);
+
+        // Assert
+        assertArrayEquals(content, downloaded, "Downloaded content should match uploaded content");
+        assertNull(objectStorageClient.getObject(TEST_BUCKET_NAME_1, "non-existent-object.txt"),
+                "Missing object should return null");
+    }
+
+    @Test
+    @DisplayName("Should stream object content")
+    void testGetObjectStream() throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act & Assert
+        try (InputStream stream = objectStorageClient.getObjectStream(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1)) {
+            assertNotNull(stream, "Stream should be opened for existing object");
+            assertArrayEquals(content, stream.readAllBytes(), "Streamed content should match uploaded content");
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass object stream to handler and release it on early return")
+    void testGetObjectWithHandler() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_2.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2, content);
+
+        // Act
+        byte[] header = objectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2,
+                stream -> stream.readNBytes(5));
+        String missing = objectStorageClient.getObject(TEST_BUCKET_NAME_1, "non-existent-object.txt",
+                stream -> "unexpected");
+
+        // Assert
+        assertArrayEquals(Arrays.copyOf(content, 5), header, "Handler should receive the object content");
+        assertNull(missing, "Handler result should be null for a missing object");
+    }
+
+    @Test
+    @DisplayName("Should return the handler result when the handler closes the stream")
+    void testGetObjectWithClosingHandler() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act
+        byte[] header = objectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, stream -> {
+            try (stream) {
+                return stream.readNBytes(5);
+            }
+        });
+
+        // Assert
+        assertArrayEquals(Arrays.copyOf(content, 5), header, "Handler result should be returned after it closed the stream");
+    }
+
+    @Test
+    @DisplayName("Should upload from and download to local files")
+    void testUploadFromAndDownloadToFile(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        Path source = Files.write(tempDir.resolve("source.txt"), content);
+        Path target = tempDir.resolve("downloads").resolve("target.txt");
+
+        // Act
+        Boolean uploaded = objectStorageClient.uploadFrom(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, source);
+        Boolean downloaded = objectStorageClient.downloadTo(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, target);
+        Boolean missing = objectStorageClient.downloadTo(TEST_BUCKET_NAME_1, "non-existent-object.txt", target);
+
+        // Assert
+        assertTrue(uploaded, "File upload should succeed");
+        assertTrue(downloaded, "File download should succeed");
+        assertFalse(missing, "Download of a missing object should return false");
+        assertArrayEquals(content, Files.readAllBytes(target), "Downloaded file should match uploaded file");
+    }
+
+    @Test
+    @DisplayName("Should upload objects above the multipart threshold in parallel parts")
+    void testPutObjectAboveMultipartThreshold() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = new byte[2 * MULTIPART_THRESHOLD_BYTES + 123];
+        new Random(42).nextBytes(content);
+
+        // Act
+        Boolean fromBytes = objectStorageClient.putObject(TEST_BUCKET_NAME_1, "multipart-bytes.bin", content);
+        Boolean fromStream = objectStorageClient.putObject(TEST_BUCKET_NAME_1, "multipart-stream.bin",
+                new ByteArrayInputStream(content));
+
+        // Assert
+        assertTrue(fromBytes, "Multipart upload from bytes should succeed");
+        assertTrue(fromStream, "Multipart upload from stream of unknown length should succeed");
+        assertArrayEquals(content, objectStorageClient.getObject(TEST_BUCKET_NAME_1, "multipart-bytes.bin"),
+                "Object uploaded from bytes should be reassembled in order");
+        assertArrayEquals(content, objectStorageClient.getObject(TEST_BUCKET_NAME_1, "multipart-stream.bin"),
+                "Object uploaded from stream should be reassembled in order");
+        assertEquals(2, objectStorageClient.listObjects(TEST_BUCKET_NAME_1).size(),
+                "No temporary part objects should remain");
+    }
+
+    @Test
+    @DisplayName("Should download objects with parallel ranged requests")
+    void testDownloadParallel(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = new byte[3 * DOWNLOAD_CHUNK_SIZE_BYTES + 4321];
+        new Random(7).nextBytes(content);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "parallel.bin", content);
+        Path target = tempDir.resolve("parallel.bin");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        byte[] inMemory = objectStorageClient.downloadParallel(TEST_BUCKET_NAME_1, "parallel.bin");
+        Boolean toFile = objectStorageClient.downloadParallel(TEST_BUCKET_NAME_1, "parallel.bin", target);
+        Boolean toStream = objectStorageClient.downloadParallel(TEST_BUCKET_NAME_1, "parallel.bin", outputStream);
+
+        // Assert
+        assertArrayEquals(content, inMemory, "In-memory parallel download should match uploaded content");
+        assertTrue(toFile, "Parallel download to file should succeed");
+        assertArrayEquals(content, Files.readAllBytes(target), "Downloaded file should match uploaded content");
+        assertTrue(toStream, "Parallel download to stream should succeed");
+        assertArrayEquals(content, outputStream.toByteArray(), "Streamed chunks should be written in order");
+        assertNull(objectStorageClient.downloadParallel(TEST_BUCKET_NAME_1, "non-existent-object.txt"),
+                "Missing object should return null");
+    }
+
+    @Test
+    @DisplayName("Should read byte ranges and suffixes of an object")
+    void testGetObjectRange() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act & Assert
+        assertArrayEquals("2345".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObjectRange(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 2, 4),
+                "Range read should return the requested bytes");
+        assertArrayEquals("ef".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObjectRange(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 14, 10),
+                "Range past the end should be truncated");
+        assertEquals(0, objectStorageClient.getObjectRange(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 100, 4).length,
+                "Range beyond the end should be empty");
+        assertArrayEquals("cdef".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObjectSuffix(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 4),
+                "Suffix read should return the trailing bytes");
+        assertNull(objectStorageClient.getObjectRange(TEST_BUCKET_NAME_1, "non-existent-object.txt", 0, 4),
+                "Missing object should return null");
+    }
+
+
+    @Test
+    @DisplayName("Should read an object through a seekable channel with a block cache")
+    void testOpenChannel() throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act & Assert
+        try (SeekableObjectChannel channel = objectStorageClient.openChannel(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 4, 8)) {
+            assertEquals(content.length, channel.size(), "Channel size should match object size");
+
+            ByteBuffer buffer = ByteBuffer.allocate(6);
+            channel.position(10);
+            assertEquals(6, channel.read(buffer), "Read should span block boundaries");
+            assertArrayEquals("abcdef".getBytes(StandardCharsets.UTF_8), buffer.array());
+
+            buffer = ByteBuffer.allocate(2);
+            channel.position(12);
+            channel.read(buffer);
+            assertArrayEquals("cd".getBytes(StandardCharsets.UTF_8), buffer.array());
+            assertEquals(2, channel.getCacheMisses(), "Only the touched blocks should be fetched");
+            assertEquals(1, channel.getCacheHits(), "Re-reading a cached block should hit the cache");
+
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)), "Reading at the end should return -1");
+        }
+        assertNull(objectStorageClient.openChannel(TEST_BUCKET_NAME_1, "non-existent-object.txt"),
+                "Missing object should return null");
+    }
+
+    @Test
+    @DisplayName("Should fail channel reads after the object is overwritten")
+    void testOpenChannelPinnedToETag() throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, "0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+
+        try (SeekableObjectChannel channel = objectStorageClient.openChannel(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 4, 8)) {
+            channel.read(ByteBuffer.allocate(4));
+
+            // Act
+            objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, "fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+            channel.position(8);
+
+            // Assert
+            assertThrows(ObjectOperationException.class, () -> channel.read(ByteBuffer.allocate(4)),
+                    "Blocks of the new version should not be mixed into the channel");
+        }
+    }
+
+
+    @Test
+    @DisplayName("Should upload, download, range-read and delete objects asynchronously")
+    void testAsyncObjectOperations() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        List<CompletableFuture<Boolean>> uploads = List.of(
+                asyncObjectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content),
+                asyncObjectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2, content));
+        CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+
+        // Assert
+        assertArrayEquals(content, asyncObjectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1).join(),
+                "Async download should return the uploaded content");
+        assertArrayEquals(Arrays.copyOfRange(content, 6, 10),
+                asyncObjectStorageClient.getObjectRange(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, 6, 4).join(),
+                "Async range read should return the requested bytes");
+        assertEquals(content.length, asyncObjectStorageClient.getObjectSize(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1).join());
+        assertEquals(2, asyncObjectStorageClient.listObjects(TEST_BUCKET_NAME_1).join().size(),
+                "Async listing should return both objects");
+        assertTrue(asyncObjectStorageClient.deleteObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2).join());
+        assertNull(asyncObjectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_2).join(),
+                "Missing object should complete with null");
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> asyncObjectStorageClient.getObject("", TEST_OBJECT_KEY_1).join());
+        assertInstanceOf(ObjectOperationException.class, failure.getCause(),
+                "Failures should complete the future with ObjectOperationException");
+    }
+
+    @Test
+    @DisplayName("Should transfer files asynchronously")
+    void testAsyncFileTransfer(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        Path source = tempDir.resolve("source.txt");
+        Path target = tempDir.resolve("nested/target.txt");
+        Files.writeString(source, TEST_OBJECT_CONTENT_2);
+
+        // Act
+        Boolean uploaded = asyncObjectStorageClient.uploadFrom(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, source).join();
+        Boolean downloaded = asyncObjectStorageClient.downloadTo(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, target).join();
+
+        // Assert
+        assertTrue(uploaded, "Async file upload should succeed");
+        assertTrue(downloaded, "Async file download should succeed");
+        assertEquals(TEST_OBJECT_CONTENT_2, Files.readString(target));
+        assertFalse(asyncObjectStorageClient.downloadTo(TEST_BUCKET_NAME_1, "non-existent-object.txt", target).join(),
+                "Missing object should complete with false");
+    }
+
+
+    @Test
+    @DisplayName("Should stream uploads and downloads reactively")
+    void testReactiveStreaming() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = new byte[12 * 1024 * 1024];
+        new Random(9).nextBytes(content);
+        int chunkSize = 256 * 1024;
+        Flux<DataBuffer> body = Flux.range(0, content.length / chunkSize)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(content, i * chunkSize, (i + 1) * chunkSize)));
+
+        // Act
+        Boolean uploaded = reactiveObjectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, body).block();
+        byte[] downloaded = DataBufferUtils.join(reactiveObjectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1))
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .block();
+
+        // Assert
+        assertTrue(uploaded, "Reactive upload of unknown length should succeed");
+        assertArrayEquals(content, downloaded, "Reactive download should return the uploaded content");
+        assertThrows(ObjectNotFoundException.class,
+                () -> reactiveObjectStorageClient.getObject(TEST_BUCKET_NAME_1, "non-existent-object.txt").blockLast(),
+                "Missing object should signal ObjectNotFoundException");
+    }
+
+
+    @Test
+    @DisplayName("Should list every object across listing pages lazily")
+    void testStreamObjectsAcrossPages() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 1001)
+                .mapToObj(i -> String.format("page-test/object-%04d.txt", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16,
+                key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[]{1})).join();
+
+        // Act & Assert
+        try (Stream<String> objects = objectStorageClient.streamObjects(TEST_BUCKET_NAME_1)) {
+            assertEquals(keys, objects.collect(Collectors.toList()), "Stream should include keys beyond the first page");
+        }
+        assertEquals(1001, objectStorageClient.listObjects(TEST_BUCKET_NAME_1).size(),
+                "List should no longer stop at the first 1000 keys");
+        try (Stream<String> objects = objectStorageClient.streamObjects(TEST_BUCKET_NAME_1)) {
+            assertEquals(keys.subList(0, 3), objects.limit(3).collect(Collectors.toList()));
+        }
+        try (Stream<ObjectSummary> objects = objectStorageClient.streamObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().prefetchPages(2).build())) {
+            assertEquals(keys, objects.map(ObjectSummary::key).collect(Collectors.toList()),
+                    "Reading pages ahead should not change the listing");
+        }
+    }
+
+
+    @Test
+    @DisplayName("Should list with prefix, delimiter, max keys and start-after")
+    void testListObjectsWithRequest() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "tenant-a/docs/y.txt", content);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "tenant-a/x.txt", content);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "tenant-b/z.txt", content);
+
+        // Act
+        ObjectListing folder = objectStorageClient.listObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().prefix("tenant-a/").recursive(false).build());
+        ObjectListing recursive = objectStorageClient.listObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().prefix("tenant-a/").build());
+        ObjectListing limited = objectStorageClient.listObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().maxKeys(1).build());
+        ObjectListing afterKey = objectStorageClient.listObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().startAfter("tenant-a/docs/y.txt").build());
+
+        // Assert
+        assertEquals(List.of("tenant-a/x.txt"), folder.keys(), "Non-recursive listing should return direct children");
+        assertEquals(List.of("tenant-a/docs/"), folder.commonPrefixes(), "Non-recursive listing should return folders");
+        assertEquals(List.of("tenant-a/docs/y.txt", "tenant-a/x.txt"), recursive.keys());
+        assertTrue(recursive.commonPrefixes().isEmpty());
+        assertEquals(List.of("tenant-a/docs/y.txt"), limited.keys(), "Max keys should limit the result");
+        assertEquals(List.of("tenant-a/x.txt", "tenant-b/z.txt"), afterKey.keys());
+        assertEquals(3, objectStorageClient.listObjects(TEST_BUCKET_NAME_1).size(),
+                "Plain listing should be recursive");
+    }
+
+
+    @Test
+    @DisplayName("Should return object summaries from the listing response")
+    void testListObjectSummaries() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8));
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "nested/" + TEST_OBJECT_KEY_2, new byte[0]);
+
+        // Act
+        List<ObjectSummary> summaries;
+        try (Stream<ObjectSummary> stream = objectStorageClient.streamObjects(TEST_BUCKET_NAME_1, ObjectListRequest.all())) {
+            summaries = stream.collect(Collectors.toList());
+        }
+        ObjectListing listing = objectStorageClient.listObjects(TEST_BUCKET_NAME_1,
+                ObjectListRequest.builder().recursive(false).build());
+
+        // Assert
+        assertEquals(2, summaries.size());
+        ObjectSummary nested = summaries.get(0);
+        ObjectSummary summary = summaries.get(1);
+        assertEquals("nested/" + TEST_OBJECT_KEY_2, nested.key());
+        assertEquals(0, nested.size());
+        assertEquals(TEST_OBJECT_KEY_1, summary.key());
+        assertEquals(TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8).length, summary.size(), "Size should come from the listing");
+        assertNotNull(summary.eTag(), "ETag should come from the listing");
+        assertNotNull(summary.lastModified(), "Last-modified should come from the listing");
+        assertEquals(List.of(TEST_OBJECT_KEY_1), listing.keys());
+        assertEquals(summary.size(), listing.objects().get(0).size());
+        assertEquals(List.of("nested/"), listing.commonPrefixes());
+    }
+
+
+    @Test
+    @DisplayName("Should list shards in parallel and merge them in key order or as they arrive")
+    void testStreamObjectsParallel() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = new ArrayList<>();
+        for (String folder : List.of("a/", "b/", "c/")) {
+            for (int i = 0; i < 5; i++) {
+                keys.add(folder + i + ".txt");
+            }
+        }
+        keys.add("b");
+        keys.add("root.txt");
+        keys.forEach(key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[0]));
+        List<String> expected = keys.stream().sorted().collect(Collectors.toList());
+
+        // Act
+        List<String> byAlphabet;
+        try (Stream<ObjectSummary> stream = objectStorageClient.streamObjectsParallel(TEST_BUCKET_NAME_1,
+                ParallelListRequest.builder().alphabet("abc").concurrency(2).pageSize(2).build())) {
+            byAlphabet = stream.map(ObjectSummary::key).collect(Collectors.toList());
+        }
+        List<String> byDiscoveredPrefixes;
+        try (Stream<ObjectSummary> stream = objectStorageClient.streamObjectsParallel(TEST_BUCKET_NAME_1,
+                ParallelListRequest.builder().discoverPrefixes(true).ordered(false).pageSize(3).build())) {
+            byDiscoveredPrefixes = stream.map(ObjectSummary::key).collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(expected, byAlphabet, "Ordered parallel listing should match a serial listing");
+        assertEquals(expected.size(), byDiscoveredPrefixes.size(), "Every key should be listed exactly once");
+        assertEquals(new HashSet<>(expected), new HashSet<>(byDiscoveredPrefixes));
+    }
+
+
+    @Test
+    @DisplayName("Should page through objects with an opaque cursor")
+    void testListPage() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = List.of("docs/a.txt", "docs/b.txt", "docs/c.txt", "docs/d.txt", "docs/e.txt");
+        keys.forEach(key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[]{1}));
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "other.txt", new byte[]{1});
+
+        // Act
+        List<String> listed = new ArrayList<>();
+        int requests = 0;
+        String cursor = null;
+        do {
+            ObjectPage page = objectStorageClient.listPage(TEST_BUCKET_NAME_1, "docs/", 2, cursor);
+            assertTrue(page.objects().size() <= 2, "A page should hold at most the page size");
+            listed.addAll(page.keys());
+            cursor = page.nextCursor();
+            requests++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(keys, listed, "Pages should cover every key below the prefix once");
+        assertEquals(3, requests);
+        assertEquals(1, objectStorageClient.listPage(TEST_BUCKET_NAME_1, null, 1, null).objects().get(0).size());
+        assertThrows(ObjectOperationException.class,
+                () -> objectStorageClient.listPage(TEST_BUCKET_NAME_1, null, 0, null));
+    }
+
+
+    @Test
+    @DisplayName("Should compute bucket usage per prefix from the listing")
+    void testGetBucketUsage() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "images/small.png", new byte[100]);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "images/medium.png", new byte[100 * 1024]);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "docs/readme.txt", new byte[10]);
+
+        // Act
+        BucketUsage images = objectStorageClient.getBucketUsage(TEST_BUCKET_NAME_1, "images/");
+        BucketUsage all = objectStorageClient.getBucketUsage(TEST_BUCKET_NAME_1);
+
+        // Assert
+        assertEquals(2, images.objectCount());
+        assertEquals(100 + 100 * 1024, images.totalBytes());
+        assertEquals(100 * 1024, images.largestObjectBytes());
+        assertEquals(1, images.sizeHistogram().get(1024L));
+        assertEquals(1, images.sizeHistogram().get(1024L * 1024));
+        assertEquals(3, all.objectCount());
+        assertEquals(3, all.sizeHistogram().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+
+    @Test
+    @DisplayName("Should delete many objects in batches and report missing bucket failures per key")
+    void testDeleteObjects() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 1500)
+                .mapToObj(i -> String.format("bulk/object-%04d.txt", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16,
+                key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[]{1})).join();
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "keep.txt", new byte[]{1});
+
+        // Act
+        BulkOperationResult result = objectStorageClient.deleteObjects(TEST_BUCKET_NAME_1, keys);
+        BulkOperationResult missingBucket = objectStorageClient.deleteObjects("missing-bucket-" + System.nanoTime(), List.of("a", "b"));
+
+        // Assert
+        assertTrue(result.isSuccessful(), "All keys should be deleted: " + result.failures());
+        assertEquals(1500, result.successCount());
+        assertEquals(List.of("keep.txt"), objectStorageClient.listObjects(TEST_BUCKET_NAME_1));
+        assertEquals(0, missingBucket.successCount());
+        assertEquals(Set.of("a", "b"), missingBucket.failures().keySet(), "A failed batch should report each of its keys");
+        assertTrue(objectStorageClient.deleteObjects(TEST_BUCKET_NAME_1, List.of()).isSuccessful());
+    }
+
+
+    @Test
+    @DisplayName("Should purge a bucket with more objects than one delete request allows")
+    void testPurgeBucket() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 2500)
+                .mapToObj(i -> String.format("purge/object-%04d.txt", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16,
+                key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[]{1})).join();
+
+        // Act
+        BulkOperationResult result = objectStorageClient.purgeBucket(TEST_BUCKET_NAME_1);
+
+        // Assert
+        assertTrue(result.isSuccessful(), "All keys should be deleted: " + result.failures());
+        assertEquals(2500, result.successCount());
+        assertTrue(objectStorageClient.listObjects(TEST_BUCKET_NAME_1).isEmpty());
+        assertTrue(objectStorageClient.deleteBucket(TEST_BUCKET_NAME_1));
+    }
+
+    @Test
+    @DisplayName("Should delete only the objects under a prefix")
+    void testDeletePrefix() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 1500)
+                .mapToObj(i -> String.format("tenant-1/object-%04d.txt", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16,
+                key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, new byte[]{1})).join();
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "tenant-10/kept.txt", new byte[]{1});
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "tenant-2/kept.txt", new byte[]{1});
+
+        // Act
+        BulkOperationResult result = objectStorageClient.deletePrefix(TEST_BUCKET_NAME_1, "tenant-1/");
+
+        // Assert
+        assertTrue(result.isSuccessful(), "All keys should be deleted: " + result.failures());
+        assertEquals(1500, result.successCount());
+        assertEquals(List.of("tenant-10/kept.txt", "tenant-2/kept.txt"), objectStorageClient.listObjects(TEST_BUCKET_NAME_1));
+        assertThrows(IllegalArgumentException.class, () -> objectStorageClient.deletePrefix(TEST_BUCKET_NAME_1, ""));
+    }
+
+    @Test
+    @DisplayName("Should move the objects under a prefix with server-side copies")
+    void testMovePrefix() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 1200)
+                .mapToObj(i -> String.format("incoming/object-%04d.txt", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16,
+                key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key, key.getBytes(StandardCharsets.UTF_8))).join();
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, "other/kept.txt", new byte[]{1});
+
+        // Act
+        BulkOperationResult result = objectStorageClient.movePrefix(TEST_BUCKET_NAME_1, "incoming/", "archive/2024/");
+
+        // Assert
+        assertTrue(result.isSuccessful(), "All keys should be moved: " + result.failures());
+        assertEquals(1200, result.successCount());
+        List<String> remaining = objectStorageClient.listObjects(TEST_BUCKET_NAME_1);
+        assertEquals(1201, remaining.size());
+        assertTrue(remaining.contains("other/kept.txt"));
+        assertTrue(remaining.stream().noneMatch(key -> key.startsWith("incoming/")));
+        assertArrayEquals("incoming/object-0042.txt".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObject(TEST_BUCKET_NAME_1, "archive/2024/object-0042.txt"));
+        assertThrows(IllegalArgumentException.class,
+                () -> objectStorageClient.movePrefix(TEST_BUCKET_NAME_1, "archive/", "archive/nested/"));
+    }
+
+    @Test
+    @DisplayName("Should copy an object server-side within and across buckets")
+    void testCopyObject() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_2);
+        byte[] content = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objectStorageClient.putObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, content);
+
+        // Act
+        Boolean sameBucket = objectStorageClient.copyObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, TEST_BUCKET_NAME_1, "copies/" + TEST_OBJECT_KEY_1);
+        Boolean otherBucket = objectStorageClient.copyObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1, TEST_BUCKET_NAME_2, TEST_OBJECT_KEY_2);
+        Boolean missingSource = objectStorageClient.copyObject(TEST_BUCKET_NAME_1, "missing.txt", TEST_BUCKET_NAME_2, "missing.txt");
+
+        // Assert
+        assertTrue(sameBucket);
+        assertTrue(otherBucket);
+        assertFalse(missingSource);
+        assertArrayEquals(content, objectStorageClient.getObject(TEST_BUCKET_NAME_1, "copies/" + TEST_OBJECT_KEY_1));
+        assertArrayEquals(content, objectStorageClient.getObject(TEST_BUCKET_NAME_2, TEST_OBJECT_KEY_2));
+        assertArrayEquals(content, objectStorageClient.getObject(TEST_BUCKET_NAME_1, TEST_OBJECT_KEY_1));
+        assertNull(objectStorageClient.getObject(TEST_BUCKET_NAME_2, "missing.txt"));
+    }
+
+    @Test
+    @DisplayName("Should upload many objects concurrently and report failed keys")
+    void testUploadAll(@TempDir Path tempDir) throws IOException {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        Map<String, UploadSource> objects = new LinkedHashMap<>();
+        IntStream.range(0, 50).forEach(i -> objects.put(String.format("ingest/object-%02d.json", i),
+                UploadSource.of(("{\"id\":" + i + "}").getBytes(StandardCharsets.UTF_8))));
+        Path file = Files.writeString(tempDir.resolve("report.csv"), "a,b,c");
+        objects.put("ingest/report.csv", UploadSource.of(file));
+        byte[] streamed = TEST_OBJECT_CONTENT_1.getBytes(StandardCharsets.UTF_8);
+        objects.put("ingest/streamed.txt", UploadSource.of(() -> new ByteArrayInputStream(streamed), streamed.length));
+        objects.put("ingest/broken.txt", UploadSource.of(() -> {
+            throw new IOException("Source unavailable");
+        }));
+
+        // Act
+        BulkOperationResult result = objectStorageClient.uploadAll(TEST_BUCKET_NAME_1, objects, 8);
+
+        // Assert
+        assertEquals(52, result.successCount());
+        assertEquals(Set.of("ingest/broken.txt"), result.failures().keySet());
+        assertEquals(52, objectStorageClient.listObjects(TEST_BUCKET_NAME_1).size());
+        assertArrayEquals("{\"id\":7}".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObject(TEST_BUCKET_NAME_1, "ingest/object-07.json"));
+        assertArrayEquals("a,b,c".getBytes(StandardCharsets.UTF_8),
+                objectStorageClient.getObject(TEST_BUCKET_NAME_1, "ingest/report.csv"));
+        assertArrayEquals(streamed, objectStorageClient.getObject(TEST_BUCKET_NAME_1, "ingest/streamed.txt"));
+    }
+
+    @Test
+    @DisplayName("Should fetch many objects concurrently and report missing keys separately")
+    void testGetAll() {
+        // Arrange
+        objectStorageClient.createBucket(TEST_BUCKET_NAME_1);
+        List<String> keys = IntStream.range(0, 200)
+                .mapToObj(i -> String.format("page/widget-%03d.json", i))
+                .collect(Collectors.toList());
+        objectStorageExecutor.forAll(keys, 16, key -> objectStorageClient.putObject(TEST_BUCKET_NAME_1, key,
+                key.getBytes(StandardCharsets.UTF_8))).join();
+        List<String> requested = new ArrayList<>(keys);
+        requested.add("page/missing.json");
+        requested.add(keys.get(0));
+
+        // Act
+        MultiGetResult result = objectStorageClient.getAll(TEST_BUCKET_NAME_1, requested);
+
+        // Assert
+        assertTrue(result.isSuccessful(), "No key should fail: " + result.failures());
+        assertEquals(keys, List.copyOf(result.objects().keySet()));
+        assertEquals(Set.of("page/missing.json"), result.missingKeys());
+        assertArrayEquals("page/widget-042.json".getBytes(StandardCharsets.UTF_8), result.get("page/widget-042.json"));
+        assertNull(result.get("page/missing.json"));
+
+        MultiGetResult missingBucket = objectStorageClient.getAll(TEST_BUCKET_NAME_2, List.of(keys.get(0)), 4);
+        assertEquals(Set.of(keys.get(0)), missingBucket.failures().keySet());
+        assertTrue(missingBucket.objects().isEmpty());
+    }
 }
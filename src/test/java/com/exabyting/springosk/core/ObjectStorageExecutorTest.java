@@ -0,0 +1,144 @@
+package com.exabyting.springosk.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ObjectStorageExecutor Tests")
+class ObjectStorageExecutorTest {
+
+    private ObjectStorageExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = ObjectStorageExecutor.platform(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should map all inputs in order with bounded concurrency")
+    void shouldMapAllInputsInOrder() {
+        List<Integer> inputs = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Integer> results = executor.mapAll(inputs, 3, input -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return input * 2;
+        }).join();
+
+        assertEquals(inputs.stream().map(input -> input * 2).collect(Collectors.toList()), results);
+        assertTrue(maxRunning.get() <= 3, "No more than 3 tasks should run at a time");
+    }
+
+    @Test
+    @DisplayName("Should complete with an empty list for no inputs")
+    void shouldHandleEmptyInputs() {
+        assertTrue(executor.mapAll(List.of(), 4, input -> input).join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop starting new tasks after a failure")
+    void shouldStopAfterFailure() {
+        List<Integer> inputs = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        AtomicInteger started = new AtomicInteger();
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> executor.forAll(inputs, 2, input -> {
+            started.incrementAndGet();
+            if (input == 5) {
+                throw new IllegalStateException("boom");
+            }
+        }).join());
+
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertTrue(started.get() < inputs.size(), "Remaining inputs should be skipped after a failure");
+    }
+
+    @Test
+    @DisplayName("Should provide virtual threads only when the runtime supports them")
+    void shouldCreateVirtualExecutorWhenSupported() {
+        boolean supported = Runtime.version().feature() >= 21;
+
+        var virtualExecutor = ObjectStorageExecutor.virtual();
+
+        assertEquals(supported, virtualExecutor.isPresent());
+        virtualExecutor.ifPresent(virtual -> {
+            assertEquals(42, virtual.supplyAsync(() -> 42).join());
+            virtual.close();
+        });
+    }
+
+    @Test
+    @DisplayName("Should queue tasks instead of running them on the submitting thread when all threads are busy")
+    void shouldNotRunTasksOnCallerWhenBusy() throws Exception {
+        ObjectStorageExecutor singleThread = ObjectStorageExecutor.platform(1);
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            singleThread.supplyAsync(() -> {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+
+            CompletableFuture<Thread> queued = singleThread.supplyAsync(Thread::currentThread);
+            List<Thread> mapped = new ArrayList<>();
+            CompletableFuture<Void> mappedAll = singleThread.forAll(List.of(1, 2, 3), 3, input -> {
+                synchronized (mapped) {
+                    mapped.add(Thread.currentThread());
+                }
+            });
+
+            assertFalse(queued.isDone(), "The task should wait for a free thread");
+            assertFalse(mappedAll.isDone(), "Mapped inputs should wait for a free thread");
+            release.countDown();
+            assertNotSame(Thread.currentThread(), queued.get(10, TimeUnit.SECONDS));
+            mappedAll.get(10, TimeUnit.SECONDS);
+            assertFalse(mapped.contains(Thread.currentThread()), "No input should run on the submitting thread");
+        } finally {
+            singleThread.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should complete nested work when every thread is busy with an outer task")
+    void shouldCompleteNestedWorkWhenSaturated() throws Exception {
+        ObjectStorageExecutor twoThreads = ObjectStorageExecutor.platform(2);
+        try {
+            List<Integer> outer = IntStream.range(0, 8).boxed().collect(Collectors.toList());
+            List<Integer> inner = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+            List<Integer> sums = twoThreads.mapAll(outer, 8, input -> twoThreads.mapAll(inner, 4, value -> value + input)
+                    .join().stream().mapToInt(Integer::intValue).sum()).get(10, TimeUnit.SECONDS);
+
+            assertEquals(outer.stream().map(input -> 190 + 20 * input).collect(Collectors.toList()), sums);
+        } finally {
+            twoThreads.close();
+        }
+    }
+}
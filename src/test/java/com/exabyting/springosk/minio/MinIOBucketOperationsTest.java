@@ -1,14 +1,22 @@
 package com.exabyting.springosk.minio;
 
+import com.exabyting.springosk.core.BucketUsage;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
 import com.exabyting.springosk.exception.BucketOperationException;
+import com.exabyting.springosk.properties.OskProperties;
 import io.minio.BucketExistsArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.RemoveBucketArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
 import io.minio.messages.Bucket;
+import io.minio.messages.DeleteError;
 import io.minio.messages.Item;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,11 +39,18 @@ class MinIOBucketOperationsTest {
     @Mock
     private MinioClient minioClient;
 
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(2);
+
     private MinIOBucketOperations bucketOperations;
 
     @BeforeEach
     void setUp() {
-        bucketOperations = new MinIOBucketOperations(minioClient);
+        bucketOperations = new MinIOBucketOperations(minioClient, executor, new OskProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
     }
 
     @Test
@@ -244,21 +260,22 @@ class MinIOBucketOperationsTest {
 
         Iterable<Result<Item>> iterable = List.of(result1, result2);
         when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(iterable);
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class))).thenReturn(List.of());
 
-        // Call delete (which calls deleteAllObjectsInBucket internally)
+        // Call delete (which purges the bucket internally)
         when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
 
         Boolean result = bucketOperations.delete(bucketName);
 
         assertTrue(result);
-        verify(minioClient).removeObject(argThat(args -> args.object().equals("obj1")));
-        verify(minioClient).removeObject(argThat(args -> args.object().equals("obj2")));
+        verify(minioClient).removeObjects(argThat(args -> args.bucket().equals(bucketName)));
+        verify(minioClient, never()).removeObject(any(RemoveObjectArgs.class));
         verify(minioClient).removeBucket(any(RemoveBucketArgs.class));
     }
 
     @Test
-    @DisplayName("deleteAllObjectsInBucket should continue deleting if one object deletion fails")
-    void deleteAllObjectsInBucket_shouldContinueOnObjectDeleteFailure() throws Exception {
+    @DisplayName("purge should report objects that could not be deleted")
+    void purge_shouldReportFailedObjects() throws Exception {
         String bucketName = "bucket-with-failure";
         Item item1 = mock(Item.class);
         Item item2 = mock(Item.class);
@@ -269,20 +286,36 @@ class MinIOBucketOperationsTest {
         Result<Item> result2 = mock(Result.class);
         when(result1.get()).thenReturn(item1);
         when(result2.get()).thenReturn(item2);
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(List.of(result1, result2));
 
-        Iterable<Result<Item>> iterable = List.of(result1, result2);
-        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(iterable);
+        DeleteError deleteError = mock(DeleteError.class);
+        when(deleteError.objectName()).thenReturn("obj1");
+        when(deleteError.code()).thenReturn("AccessDenied");
+        when(deleteError.message()).thenReturn("Access Denied.");
+        Result<DeleteError> errorResult = mock(Result.class);
+        when(errorResult.get()).thenReturn(deleteError);
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class))).thenReturn(List.of(errorResult));
 
-        doThrow(new RuntimeException("delete failed")).when(minioClient).removeObject(argThat(args -> args.object().equals("obj1")));
+        BulkOperationResult result = bucketOperations.purge(bucketName);
 
-        when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+        assertEquals(1, result.successCount());
+        assertEquals(Map.of("obj1", "AccessDenied: Access Denied."), result.failures());
+    }
 
-        Boolean result = bucketOperations.delete(bucketName);
+    @Test
+    @DisplayName("delete should fail instead of swallowing object deletion failures")
+    void delete_shouldFailWhenObjectDeletionFails() throws Exception {
+        String bucketName = "bucket-with-failure";
+        Item item1 = mock(Item.class);
+        when(item1.objectName()).thenReturn("obj1");
+        Result<Item> result1 = mock(Result.class);
+        when(result1.get()).thenReturn(item1);
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(List.of(result1));
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class))).thenThrow(new RuntimeException("delete failed"));
+        when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
 
-        assertTrue(result);
-        verify(minioClient).removeObject(argThat(args -> args.object().equals("obj1")));
-        verify(minioClient).removeObject(argThat(args -> args.object().equals("obj2")));
-        verify(minioClient).removeBucket(any(RemoveBucketArgs.class));
+        assertThrows(BucketOperationException.class, () -> bucketOperations.delete(bucketName));
+        verify(minioClient, never()).removeBucket(any(RemoveBucketArgs.class));
     }
 
     @Test
@@ -300,4 +333,39 @@ class MinIOBucketOperationsTest {
             verify(minioClient).removeBucket(any(RemoveBucketArgs.class));
         });
     }
+
+
+    @Test
+    @DisplayName("getUsage should aggregate object sizes and skip directories")
+    void getUsage_shouldAggregateObjectSizes() throws Exception {
+        Item small = mock(Item.class);
+        Item large = mock(Item.class);
+        Item dir = mock(Item.class);
+        when(small.isDir()).thenReturn(false);
+        when(small.size()).thenReturn(100L);
+        when(large.isDir()).thenReturn(false);
+        when(large.size()).thenReturn(10L * 1024 * 1024);
+        when(dir.isDir()).thenReturn(true);
+
+        Result<Item> result1 = mock(Result.class);
+        Result<Item> result2 = mock(Result.class);
+        Result<Item> result3 = mock(Result.class);
+        when(result1.get()).thenReturn(small);
+        when(result2.get()).thenReturn(large);
+        when(result3.get()).thenReturn(dir);
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(List.of(result1, result2, result3));
+
+        BucketUsage usage = bucketOperations.getUsage("bucket", "images/");
+
+        assertEquals(2, usage.objectCount());
+        assertEquals(100L + 10L * 1024 * 1024, usage.totalBytes());
+        assertEquals(1, usage.sizeHistogram().get(1024L));
+        assertEquals(1, usage.sizeHistogram().get(64L * 1024 * 1024));
+        verify(minioClient).listObjects(argThat(args -> "images/".equals(args.prefix()) && args.recursive()));
+    }
+
+    @Test
+    void getUsage_shouldHandleEmptyBucketName() {
+        assertThrows(BucketOperationException.class, () -> bucketOperations.getUsage("", null));
+    }
 }
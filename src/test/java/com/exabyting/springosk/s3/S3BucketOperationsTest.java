@@ -1,6 +1,11 @@
 package com.exabyting.springosk.s3;
 
+import com.exabyting.springosk.core.BucketUsage;
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
 import com.exabyting.springosk.exception.BucketOperationException;
+import com.exabyting.springosk.properties.OskProperties;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,10 +14,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +33,8 @@ class S3BucketOperationsTest {
     @Mock
     private S3Client s3Client;
 
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(2);
+
     private S3BucketOperations s3BucketOperations;
 
     private static final String TEST_BUCKET_NAME = "test-bucket";
@@ -34,7 +43,12 @@ class S3BucketOperationsTest {
 
     @BeforeEach
     void setUp() {
-        s3BucketOperations = new S3BucketOperations(s3Client);
+        s3BucketOperations = new S3BucketOperations(s3Client, executor, new OskProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
     }
 
     @Test
@@ -198,13 +212,13 @@ class S3BucketOperationsTest {
         // Then
         assertTrue(result);
         verify(s3Client, times(2)).listObjectsV2(any(ListObjectsV2Request.class));
-        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) -> {
-            Delete delete = request.delete();
-            List<ObjectIdentifier> objects = delete.objects();
-            return objects.size() == 2 &&
-                objects.stream().anyMatch(obj -> obj.key().equals(TEST_OBJECT_KEY_1)) &&
-                objects.stream().anyMatch(obj -> obj.key().equals(TEST_OBJECT_KEY_2));
-        }));
+        // Each listing page is deleted as its own batch
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+            request.delete().objects().equals(List.of(ObjectIdentifier.builder().key(TEST_OBJECT_KEY_1).build()))
+        ));
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+            request.delete().objects().equals(List.of(ObjectIdentifier.builder().key(TEST_OBJECT_KEY_2).build()))
+        ));
         verify(s3Client).deleteBucket(any(DeleteBucketRequest.class));
     }
 
@@ -248,8 +262,8 @@ class S3BucketOperationsTest {
     }
 
     @Test
-    @DisplayName("Should continue bucket deletion even when object deletion fails with S3Exception")
-    void shouldContinueBucketDeletionEvenWhenObjectDeletionFailsWithS3Exception() {
+    @DisplayName("Should fail bucket deletion when object deletion fails with S3Exception")
+    void shouldFailBucketDeletionWhenObjectDeletionFailsWithS3Exception() {
         // Given
         S3Object object1 = S3Object.builder()
             .key(TEST_OBJECT_KEY_1)
@@ -269,21 +283,15 @@ class S3BucketOperationsTest {
             .build();
         when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(s3Exception);
 
-        DeleteBucketResponse deleteBucketResponse = DeleteBucketResponse.builder().build();
-        when(s3Client.deleteBucket(any(DeleteBucketRequest.class))).thenReturn(deleteBucketResponse);
-
-        // When
-        Boolean result = s3BucketOperations.delete(TEST_BUCKET_NAME);
-
-        // Then
-        assertTrue(result);
+        // When & Then
+        assertThrows(BucketOperationException.class, () -> s3BucketOperations.delete(TEST_BUCKET_NAME));
         verify(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(s3Client).deleteBucket(any(DeleteBucketRequest.class));
+        verify(s3Client, never()).deleteBucket(any(DeleteBucketRequest.class));
     }
 
     @Test
-    @DisplayName("Should continue bucket deletion even when object deletion fails with general exception")
-    void shouldContinueBucketDeletionEvenWhenObjectDeletionFailsWithGeneralException() {
+    @DisplayName("Should fail bucket deletion when object deletion fails with general exception")
+    void shouldFailBucketDeletionWhenObjectDeletionFailsWithGeneralException() {
         // Given
         S3Object object1 = S3Object.builder()
             .key(TEST_OBJECT_KEY_1)
@@ -300,21 +308,15 @@ class S3BucketOperationsTest {
         RuntimeException runtimeException = new RuntimeException("Network timeout");
         when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(runtimeException);
 
-        DeleteBucketResponse deleteBucketResponse = DeleteBucketResponse.builder().build();
-        when(s3Client.deleteBucket(any(DeleteBucketRequest.class))).thenReturn(deleteBucketResponse);
-
-        // When
-        Boolean result = s3BucketOperations.delete(TEST_BUCKET_NAME);
-
-        // Then
-        assertTrue(result);
+        // When & Then
+        assertThrows(BucketOperationException.class, () -> s3BucketOperations.delete(TEST_BUCKET_NAME));
         verify(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(s3Client).deleteBucket(any(DeleteBucketRequest.class));
+        verify(s3Client, never()).deleteBucket(any(DeleteBucketRequest.class));
     }
 
     @Test
-    @DisplayName("Should continue bucket deletion even when object listing fails with S3Exception")
-    void shouldContinueBucketDeletionEvenWhenObjectListingFailsWithS3Exception() {
+    @DisplayName("Should fail bucket deletion when object listing fails with S3Exception")
+    void shouldFailBucketDeletionWhenObjectListingFailsWithS3Exception() {
         // Given
         S3Exception s3Exception = (S3Exception) S3Exception.builder()
             .message("Access denied for listing objects")
@@ -322,37 +324,25 @@ class S3BucketOperationsTest {
             .build();
         when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenThrow(s3Exception);
 
-        DeleteBucketResponse deleteBucketResponse = DeleteBucketResponse.builder().build();
-        when(s3Client.deleteBucket(any(DeleteBucketRequest.class))).thenReturn(deleteBucketResponse);
-
-        // When
-        Boolean result = s3BucketOperations.delete(TEST_BUCKET_NAME);
-
-        // Then
-        assertTrue(result);
+        // When & Then
+        assertThrows(BucketOperationException.class, () -> s3BucketOperations.delete(TEST_BUCKET_NAME));
         verify(s3Client).listObjectsV2(any(ListObjectsV2Request.class));
         verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(s3Client).deleteBucket(any(DeleteBucketRequest.class));
+        verify(s3Client, never()).deleteBucket(any(DeleteBucketRequest.class));
     }
 
     @Test
-    @DisplayName("Should continue bucket deletion even when object listing fails with general exception")
-    void shouldContinueBucketDeletionEvenWhenObjectListingFailsWithGeneralException() {
+    @DisplayName("Should fail bucket deletion when object listing fails with general exception")
+    void shouldFailBucketDeletionWhenObjectListingFailsWithGeneralException() {
         // Given
         RuntimeException runtimeException = new RuntimeException("Connection timeout");
         when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenThrow(runtimeException);
 
-        DeleteBucketResponse deleteBucketResponse = DeleteBucketResponse.builder().build();
-        when(s3Client.deleteBucket(any(DeleteBucketRequest.class))).thenReturn(deleteBucketResponse);
-
-        // When
-        Boolean result = s3BucketOperations.delete(TEST_BUCKET_NAME);
-
-        // Then
-        assertTrue(result);
+        // When & Then
+        assertThrows(BucketOperationException.class, () -> s3BucketOperations.delete(TEST_BUCKET_NAME));
         verify(s3Client).listObjectsV2(any(ListObjectsV2Request.class));
         verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(s3Client).deleteBucket(any(DeleteBucketRequest.class));
+        verify(s3Client, never()).deleteBucket(any(DeleteBucketRequest.class));
     }
 
     @Test
@@ -454,4 +444,78 @@ class S3BucketOperationsTest {
         // When & Then
         assertThrows(BucketOperationException.class, () -> s3BucketOperations.delete(""));
     }
+
+
+    @Test
+    @DisplayName("Should compute usage from listing pages")
+    void shouldComputeUsageFromListingPages() {
+        // Given
+        ListObjectsV2Response firstPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("logs/a").size(10L).build(),
+                        S3Object.builder().key("logs/b").size(2048L).build())
+                .isTruncated(true)
+                .nextContinuationToken("token")
+                .build();
+        ListObjectsV2Response secondPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("logs/c").size(100L * 1024 * 1024).build())
+                .isTruncated(false)
+                .build();
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(firstPage, secondPage);
+
+        // When
+        BucketUsage usage = s3BucketOperations.getUsage(TEST_BUCKET_NAME, "logs/");
+
+        // Then
+        assertEquals("logs/", usage.prefix());
+        assertEquals(3, usage.objectCount());
+        assertEquals(10L + 2048L + 100L * 1024 * 1024, usage.totalBytes());
+        assertEquals(100L * 1024 * 1024, usage.largestObjectBytes());
+        assertEquals(1, usage.sizeHistogram().get(1024L));
+        assertEquals(1, usage.sizeHistogram().get(64L * 1024));
+        assertEquals(1, usage.sizeHistogram().get(512L * 1024 * 1024));
+        verify(s3Client).listObjectsV2(argThat((ListObjectsV2Request request) ->
+                "logs/".equals(request.prefix()) && request.continuationToken() == null));
+        verify(s3Client).listObjectsV2(argThat((ListObjectsV2Request request) -> "token".equals(request.continuationToken())));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when listing fails during usage computation")
+    void shouldThrowExceptionWhenListingFailsDuringUsageComputation() {
+        // Given
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenThrow(S3Exception.builder().message("Access denied").statusCode(403).build());
+
+        // When & Then
+        assertThrows(BucketOperationException.class, () -> s3BucketOperations.getUsage(TEST_BUCKET_NAME, null));
+    }
+
+
+    @Test
+    @DisplayName("Should purge objects page by page and report keys that could not be deleted")
+    void shouldPurgeObjectsAndReportFailedKeys() {
+        // Given
+        ListObjectsV2Response listObjectsResponse = ListObjectsV2Response.builder()
+            .isTruncated(false)
+            .contents(S3Object.builder().key(TEST_OBJECT_KEY_1).build(), S3Object.builder().key(TEST_OBJECT_KEY_2).build())
+            .build();
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(listObjectsResponse);
+
+        DeleteObjectsResponse deleteObjectsResponse = DeleteObjectsResponse.builder()
+            .errors(S3Error.builder().key(TEST_OBJECT_KEY_2).code("AccessDenied").message("Access Denied").build())
+            .build();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(deleteObjectsResponse);
+
+        // When
+        BulkOperationResult result = s3BucketOperations.purge(TEST_BUCKET_NAME);
+
+        // Then
+        assertEquals(1, result.successCount());
+        assertEquals(Map.of(TEST_OBJECT_KEY_2, "AccessDenied: Access Denied"), result.failures());
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) -> request.delete().quiet()));
+        verify(s3Client, never()).deleteBucket(any(DeleteBucketRequest.class));
+    }
 }
@@ -0,0 +1,86 @@
+package com.exabyting.springosk.s3;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3MultipartUpload Unit Tests")
+class S3MultipartUploadTest {
+
+    private static final String TEST_BUCKET_NAME = "test-bucket";
+    private static final String TEST_OBJECT_KEY = "large-object.bin";
+    private static final int PART_SIZE = 10;
+
+    @Mock
+    private S3Client s3Client;
+
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(2);
+
+    private S3MultipartUpload s3MultipartUpload;
+
+    @BeforeEach
+    void setUp() {
+        s3MultipartUpload = new S3MultipartUpload(s3Client, executor, PART_SIZE, 2);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should upload only the declared content length of a longer stream")
+    void shouldUploadOnlyDeclaredContentLength() throws IOException {
+        // Given
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[30]);
+
+        // When
+        s3MultipartUpload.upload(TEST_BUCKET_NAME, TEST_OBJECT_KEY, inputStream, 25);
+
+        // Then
+        verify(s3Client).uploadPart(argThat((UploadPartRequest request) -> request.partNumber() == 3 && request.contentLength() == 5),
+                any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(argThat((CompleteMultipartUploadRequest request) ->
+                request.multipartUpload().parts().size() == 3));
+        assertEquals(5, inputStream.available(), "Bytes past the content length should be left unread");
+    }
+
+    @Test
+    @DisplayName("Should fail and abort when the stream ends before the declared content length")
+    void shouldAbortWhenStreamEndsEarly() {
+        // Given
+        lenient().when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // When
+        ObjectOperationException exception = assertThrows(ObjectOperationException.class, () ->
+                s3MultipartUpload.upload(TEST_BUCKET_NAME, TEST_OBJECT_KEY, new ByteArrayInputStream(new byte[15]), 25));
+
+        // Then
+        assertEquals("Stream ended after 15 of 25 bytes", exception.getMessage());
+        verify(s3Client).abortMultipartUpload(argThat((AbortMultipartUploadRequest request) -> "upload-1".equals(request.uploadId())));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,26 @@
+package com.exabyting.springosk.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Batches Tests")
+class BatchesTest {
+
+    @Test
+    @DisplayName("Should split into full batches and a shorter last batch")
+    void shouldPartition() {
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Batches.partition(List.of(1, 2, 3, 4, 5), 2));
+        assertEquals(List.of(List.of(1, 2)), Batches.partition(List.of(1, 2), 2));
+        assertEquals(List.of(), Batches.partition(List.of(), 2));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive batch size")
+    void shouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> Batches.partition(List.of(1), 0));
+    }
+}
@@ -0,0 +1,61 @@
+package com.exabyting.springosk.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockCache Tests")
+class BlockCacheTest {
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void shouldCountHitsAndMisses() throws IOException {
+        BlockCache cache = new BlockCache(1024);
+        AtomicInteger loads = new AtomicInteger();
+        BlockCache.BlockLoader loader = index -> {
+            loads.incrementAndGet();
+            return new byte[]{(byte) index};
+        };
+
+        assertArrayEquals(new byte[]{1}, cache.get(1, loader));
+        assertArrayEquals(new byte[]{1}, cache.get(1, loader));
+        assertArrayEquals(new byte[]{2}, cache.get(2, loader));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getCachedBytes());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used block when the byte limit is exceeded")
+    void shouldEvictLeastRecentlyUsedBlock() throws IOException {
+        BlockCache cache = new BlockCache(20);
+        BlockCache.BlockLoader loader = index -> new byte[10];
+
+        cache.get(0, loader);
+        cache.get(1, loader);
+        cache.get(0, loader); // block 1 is now the least recently used
+        cache.get(2, loader);
+
+        assertEquals(20, cache.getCachedBytes());
+        cache.get(0, loader);
+        assertEquals(2, cache.getHits());
+        cache.get(1, loader);
+        assertEquals(4, cache.getMisses(), "Evicted block should be loaded again");
+    }
+
+    @Test
+    @DisplayName("Should not cache blocks larger than the cache")
+    void shouldNotCacheOversizedBlocks() throws IOException {
+        BlockCache cache = new BlockCache(8);
+
+        cache.get(0, index -> new byte[16]);
+
+        assertEquals(0, cache.getCachedBytes());
+    }
+}
@@ -0,0 +1,85 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.BulkOperationResult;
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BulkPipeline Tests")
+class BulkPipelineTest {
+
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should combine the results of every non-empty batch")
+    void shouldCombineBatchResults() {
+        List<List<String>> batches = List.of(List.of("a", "b"), List.of(), List.of("c", "bad"));
+
+        BulkOperationResult result = BulkPipeline.run(batches.iterator(), 2, executor, batch -> {
+            assertFalse(batch.isEmpty(), "Empty batches should be skipped");
+            Map<String, String> failures = batch.stream()
+                    .filter("bad"::equals)
+                    .collect(Collectors.toMap(key -> key, key -> "failed"));
+            return new BulkOperationResult(batch.size() - failures.size(), failures);
+        });
+
+        assertEquals(3, result.successCount());
+        assertEquals(Map.of("bad", "failed"), result.failures());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the given number of batches in flight")
+    void shouldBoundBatchesInFlight() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<List<Integer>> batches = IntStream.range(0, 20).mapToObj(List::of).collect(Collectors.toList());
+
+        BulkOperationResult result = BulkPipeline.run(batches.iterator(), 3, executor, batch -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return new BulkOperationResult(batch.size(), Map.of());
+        });
+
+        assertEquals(20, result.successCount());
+        assertTrue(maxRunning.get() <= 3, "At most 3 batches should run at a time, saw " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Should rethrow failures of the batch source")
+    void shouldRethrowSourceFailures() {
+        Iterator<List<String>> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public List<String> next() {
+                throw new IllegalStateException("listing failed");
+            }
+        };
+
+        assertThrows(IllegalStateException.class,
+                () -> BulkPipeline.run(failing, 2, executor, batch -> BulkOperationResult.empty()));
+    }
+}
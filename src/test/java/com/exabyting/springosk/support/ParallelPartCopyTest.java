@@ -0,0 +1,82 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelPartCopy Tests")
+class ParallelPartCopyTest {
+
+    private ObjectStorageExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = ObjectStorageExecutor.platform(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should keep the part size between the minimum part size and the single copy limit")
+    void shouldClampPartSize() {
+        assertEquals(ParallelPartUpload.MIN_PART_SIZE, ParallelPartCopy.partSize(1024, 6L * 1024 * 1024 * 1024));
+        assertEquals(ParallelPartCopy.MAX_SINGLE_COPY_SIZE, ParallelPartCopy.partSize(Long.MAX_VALUE, 6L * 1024 * 1024 * 1024));
+    }
+
+    @Test
+    @DisplayName("Should grow the part size to stay within the part limit")
+    void shouldGrowPartSizeForLargeObjects() {
+        long contentLength = 5L * 1024 * 1024 * 1024 * 1024;
+
+        long partSize = ParallelPartCopy.partSize(8 * 1024 * 1024, contentLength);
+
+        assertTrue(ParallelPartCopy.ranges(contentLength, partSize).size() <= ParallelPartUpload.MAX_PARTS,
+                "Object should fit into the maximum number of parts");
+    }
+
+    @Test
+    @DisplayName("Should split an object into consecutive inclusive byte ranges")
+    void shouldSplitIntoRanges() {
+        List<ParallelPartCopy.PartRange> ranges = ParallelPartCopy.ranges(25, 10);
+
+        assertEquals(List.of(
+                new ParallelPartCopy.PartRange(1, 0, 9),
+                new ParallelPartCopy.PartRange(2, 10, 19),
+                new ParallelPartCopy.PartRange(3, 20, 24)
+        ), ranges);
+        assertEquals("bytes=20-24", ranges.get(2).toHttpRange());
+    }
+
+    @Test
+    @DisplayName("Should return part receipts in part order")
+    void shouldReturnReceiptsInPartOrder() {
+        List<String> receipts = ParallelPartCopy.copyParts(25, 10, 3, executor,
+                range -> range.partNumber() + ":" + range.firstByte());
+
+        assertEquals(List.of("1:0", "2:10", "3:20"), receipts);
+    }
+
+    @Test
+    @DisplayName("Should fail when a part copy fails")
+    void shouldFailWhenPartCopyFails() {
+        ObjectOperationException exception = assertThrows(ObjectOperationException.class, () ->
+                ParallelPartCopy.copyParts(100, 10, 2, executor, range -> {
+                    if (range.partNumber() == 3) {
+                        throw new Exception("boom");
+                    }
+                    return range.partNumber();
+                }));
+
+        assertEquals("boom", exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,108 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelPartUpload Tests")
+class ParallelPartUploadTest {
+
+    private ObjectStorageExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = ObjectStorageExecutor.platform(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should enforce the minimum part size")
+    void shouldEnforceMinimumPartSize() {
+        assertEquals(ParallelPartUpload.MIN_PART_SIZE, ParallelPartUpload.partSize(1024, 10_000));
+    }
+
+    @Test
+    @DisplayName("Should grow the part size to stay within the part limit")
+    void shouldGrowPartSizeForLargeObjects() {
+        long contentLength = 200L * 1024 * 1024 * 1024;
+
+        int partSize = ParallelPartUpload.partSize(8 * 1024 * 1024, contentLength);
+
+        assertTrue((contentLength + partSize - 1) / partSize <= ParallelPartUpload.MAX_PARTS,
+                "Object should fit into the maximum number of parts");
+    }
+
+    @Test
+    @DisplayName("Should return part receipts in part order")
+    void shouldReturnReceiptsInPartOrder() throws IOException {
+        byte[] content = new byte[25];
+
+        List<String> receipts = ParallelPartUpload.uploadParts(new ByteArrayInputStream(content), 10, 3, executor,
+                (partNumber, data) -> partNumber + ":" + data.length);
+
+        assertEquals(List.of("1:10", "2:10", "3:5"), receipts);
+    }
+
+    @Test
+    @DisplayName("Should upload a single empty part for an empty stream")
+    void shouldUploadSingleEmptyPart() throws IOException {
+        List<Integer> receipts = ParallelPartUpload.uploadParts(new ByteArrayInputStream(new byte[0]), 10, 2, executor,
+                (partNumber, data) -> data.length);
+
+        assertEquals(List.of(0), receipts);
+    }
+
+    @Test
+    @DisplayName("Should stop reading and fail when a part upload fails")
+    void shouldFailWhenPartUploadFails() {
+        AtomicInteger uploadedParts = new AtomicInteger();
+
+        ObjectOperationException exception = assertThrows(ObjectOperationException.class, () ->
+                ParallelPartUpload.uploadParts(new ByteArrayInputStream(new byte[1000]), 10, 1, executor,
+                        (partNumber, data) -> {
+                            if (partNumber == 2) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return uploadedParts.incrementAndGet();
+                        }));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(uploadedParts.get() < 100, "Reading should stop after the failed part");
+    }
+
+    @Test
+    @DisplayName("Should read only the declared content length")
+    void shouldStopReadingAtContentLength() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[30]);
+
+        List<String> receipts = ParallelPartUpload.uploadParts(inputStream, 25, 10, 3, executor,
+                (partNumber, data) -> partNumber + ":" + data.length);
+
+        assertEquals(List.of("1:10", "2:10", "3:5"), receipts);
+        assertEquals(5, inputStream.available(), "Bytes past the content length should be left unread");
+    }
+
+    @Test
+    @DisplayName("Should fail when the stream ends before the declared content length")
+    void shouldFailWhenStreamEndsEarly() {
+        ObjectOperationException exception = assertThrows(ObjectOperationException.class, () ->
+                ParallelPartUpload.uploadParts(new ByteArrayInputStream(new byte[15]), 25, 10, 2, executor,
+                        (partNumber, data) -> data.length));
+
+        assertEquals("Stream ended after 15 of 25 bytes", exception.getMessage());
+    }
+}
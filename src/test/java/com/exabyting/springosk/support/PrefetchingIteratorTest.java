@@ -0,0 +1,95 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrefetchingIterator Tests")
+class PrefetchingIteratorTest {
+
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should return every element in order around batch boundaries")
+    void shouldReturnEveryElementInOrder() {
+        for (int size : new int[]{0, 1, 9, 10, 11, 95}) {
+            List<Integer> source = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            List<Integer> result = new ArrayList<>();
+
+            try (PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(source.iterator(), 10, 2, executor)) {
+                iterator.forEachRemaining(result::add);
+            }
+
+            assertEquals(source, result, "Size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read ahead at most the configured number of batches")
+    void shouldBoundReadAhead() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        Iterator<Integer> endless = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return produced.incrementAndGet();
+            }
+        };
+
+        try (PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(endless, 10, 2, executor)) {
+            assertEquals(1, iterator.next());
+            TimeUnit.MILLISECONDS.sleep(200);
+
+            assertEquals(30, produced.get(), "The current batch plus two batches should have been read");
+        }
+    }
+
+    @Test
+    @DisplayName("Should rethrow source failures to the consumer")
+    void shouldRethrowSourceFailures() {
+        Iterator<Integer> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("page failed");
+            }
+        };
+
+        try (PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(failing, 10, 2, executor)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, iterator::hasNext);
+            assertEquals("page failed", e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive batch size and depth")
+    void shouldRejectInvalidArguments() {
+        Iterator<Integer> source = List.of(1).iterator();
+        assertThrows(IllegalArgumentException.class, () -> new PrefetchingIterator<>(source, 0, 1, executor));
+        assertThrows(IllegalArgumentException.class, () -> new PrefetchingIterator<>(source, 1, 0, executor));
+    }
+}
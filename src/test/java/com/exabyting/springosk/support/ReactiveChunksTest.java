@@ -0,0 +1,83 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.exception.ObjectOperationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReactiveChunks Tests")
+class ReactiveChunksTest {
+
+    @Test
+    @DisplayName("Should regroup buffers into fixed-size chunks with a shorter last chunk")
+    void shouldRegroupBuffers() {
+        Flux<ByteBuffer> source = Flux.just(
+                ByteBuffer.wrap(new byte[]{0, 1, 2}),
+                ByteBuffer.wrap(new byte[]{3, 4, 5, 6, 7}),
+                ByteBuffer.wrap(new byte[]{8}));
+
+        List<byte[]> chunks = ReactiveChunks.rechunk(source, 4).collectList().block();
+
+        assertNotNull(chunks);
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, chunks.get(0));
+        assertArrayEquals(new byte[]{4, 5, 6, 7}, chunks.get(1));
+        assertArrayEquals(new byte[]{8}, chunks.get(2));
+    }
+
+    @Test
+    @DisplayName("Should produce no chunks for an empty source")
+    void shouldProduceNoChunksForEmptySource() {
+        List<byte[]> chunks = ReactiveChunks.rechunk(Flux.empty(), 4).collectList().block();
+
+        assertNotNull(chunks);
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not emit a trailing empty chunk when the size is an exact multiple")
+    void shouldNotEmitTrailingEmptyChunk() {
+        List<byte[]> chunks = ReactiveChunks.rechunk(Flux.just(ByteBuffer.wrap(new byte[8])), 4).collectList().block();
+
+        assertNotNull(chunks);
+        assertEquals(2, chunks.size());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive chunk size")
+    void shouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> ReactiveChunks.rechunk(Flux.empty(), 0));
+    }
+
+    @Test
+    @DisplayName("Should cut off bytes past the declared content length")
+    void shouldLimitToContentLength() {
+        Flux<ByteBuffer> source = Flux.just(
+                ByteBuffer.wrap(new byte[]{0, 1, 2}),
+                ByteBuffer.wrap(new byte[]{3, 4, 5}),
+                ByteBuffer.wrap(new byte[]{6, 7}));
+
+        List<byte[]> chunks = ReactiveChunks.rechunk(ReactiveChunks.limit(source, 5), 4).collectList().block();
+
+        assertNotNull(chunks);
+        assertEquals(2, chunks.size());
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, chunks.get(0));
+        assertArrayEquals(new byte[]{4}, chunks.get(1));
+    }
+
+    @Test
+    @DisplayName("Should fail when the source ends before the declared content length")
+    void shouldFailWhenSourceEndsEarly() {
+        Flux<ByteBuffer> source = Flux.just(ByteBuffer.wrap(new byte[]{0, 1, 2}));
+
+        ObjectOperationException exception = assertThrows(ObjectOperationException.class,
+                () -> ReactiveChunks.limit(source, 5).blockLast());
+
+        assertEquals("Content ended after 3 of 5 bytes", exception.getMessage());
+    }
+}
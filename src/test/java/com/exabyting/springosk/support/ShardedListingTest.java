@@ -0,0 +1,104 @@
+package com.exabyting.springosk.support;
+
+import com.exabyting.springosk.core.ObjectStorageExecutor;
+import com.exabyting.springosk.core.ObjectSummary;
+import com.exabyting.springosk.exception.ObjectOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedListing Tests")
+class ShardedListingTest {
+
+    private final ObjectStorageExecutor executor = ObjectStorageExecutor.platform(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should return every key once, in order, including keys equal to or outside the boundaries")
+    void shouldCoverKeyspaceInOrder() {
+        List<String> keys = new ArrayList<>(List.of("a", "a/1", "b", "b0", "c/x", "~tilde", "0", "Z", "bb"));
+        IntStream.range(0, 50).forEach(i -> keys.add(String.format("b/%03d", i)));
+        TreeSet<String> expected = new TreeSet<>(keys);
+
+        try (Stream<ObjectSummary> stream = ShardedListing.stream(loader(expected), List.of("c/", "a", "b"),
+                executor, 2, true, 7, "listing failed")) {
+            assertEquals(List.copyOf(expected), stream.map(ObjectSummary::key).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return every key once when unordered")
+    void shouldCoverKeyspaceUnordered() {
+        TreeSet<String> expected = IntStream.range(0, 500)
+                .mapToObj(i -> Integer.toHexString(i * 7919))
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<String> boundaries = ShardedListing.alphabetBoundaries("", "0123456789abcdef");
+
+        try (Stream<ObjectSummary> stream = ShardedListing.stream(loader(expected), boundaries,
+                executor, 4, false, 10, "listing failed")) {
+            List<String> listed = stream.map(ObjectSummary::key).toList();
+            assertEquals(expected.size(), listed.size());
+            assertEquals(expected, new TreeSet<>(listed));
+        }
+    }
+
+    @Test
+    @DisplayName("Should build sorted distinct alphabet boundaries below the prefix")
+    void shouldBuildAlphabetBoundaries() {
+        assertEquals(List.of("logs/a", "logs/b", "logs/c"), ShardedListing.alphabetBoundaries("logs/", "cabc"));
+        assertEquals(List.of(), ShardedListing.alphabetBoundaries("logs/", null));
+    }
+
+    @Test
+    @DisplayName("Should order keys by code point like object stores do")
+    void shouldOrderKeysByCodePoint() {
+        String supplementary = new String(Character.toChars(0x1F600));
+        assertTrue(ShardedListing.KEY_ORDER.compare("\uFFFD", supplementary) < 0);
+        assertTrue(ShardedListing.KEY_ORDER.compare("a", "ab") < 0);
+        assertEquals(0, ShardedListing.KEY_ORDER.compare("ab", "ab"));
+    }
+
+    @Test
+    @DisplayName("Should rethrow page failures as ObjectOperationException")
+    void shouldRethrowPageFailures() {
+        ShardedListing.PageLoader failing = (startAfter, pageSize) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        try (Stream<ObjectSummary> stream = ShardedListing.stream(failing, List.of("m"), executor, 2, true, 10, "listing failed")) {
+            ObjectOperationException e = assertThrows(ObjectOperationException.class, () -> stream.forEach(object -> {
+            }));
+            assertEquals("listing failed", e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive concurrency and page size")
+    void shouldRejectInvalidArguments() {
+        ShardedListing.PageLoader empty = (startAfter, pageSize) -> List.of();
+        assertThrows(IllegalArgumentException.class,
+                () -> ShardedListing.stream(empty, List.of(), executor, 0, true, 10, "listing failed"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ShardedListing.stream(empty, List.of(), executor, 1, true, 0, "listing failed"));
+    }
+
+    private static ShardedListing.PageLoader loader(TreeSet<String> keys) {
+        return (startAfter, pageSize) -> (startAfter == null ? keys : keys.tailSet(startAfter, false)).stream()
+                .limit(pageSize)
+                .map(key -> new ObjectSummary(key, key.length(), null, null, null))
+                .toList();
+    }
+}
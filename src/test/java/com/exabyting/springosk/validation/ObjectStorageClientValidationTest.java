@@ -1,5 +1,6 @@
 package com.exabyting.springosk.validation;
 
+import com.exabyting.springosk.config.ExecutorConfig;
 import com.exabyting.springosk.config.PropertiesConfig;
 import com.exabyting.springosk.config.S3Config;
 import com.exabyting.springosk.core.ObjectStorageClient;
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 @SpringBootTest(classes = {
         S3Config.class,
         PropertiesConfig.class,
+        ExecutorConfig.class,
         ObjectStorageClient.class,
         com.exabyting.springosk.s3.S3BucketOperations.class,
         com.exabyting.springosk.s3.S3ObjectOperations.class